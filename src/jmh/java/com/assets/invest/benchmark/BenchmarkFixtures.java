@@ -0,0 +1,81 @@
+package com.assets.invest.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.assets.invest.InvestApplication;
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+
+// 벤치마크용 더미 데이터 및 In-Memory H2 애플리케이션 생성
+final class BenchmarkFixtures {
+	static final int FIRST_PRODUCT_ID = 1001;
+	static final int FIRST_USER_ID = 10001;
+	static final long ONE_WEEK = TimeUnit.DAYS.toMillis(7);
+
+	private BenchmarkFixtures() {
+	}
+
+	// 더미 Product 생성(DB 미사용)
+	static Product product(int productId, int totalInvestingAmount) {
+		Product product = new Product("개인신용 포트폴리오", totalInvestingAmount, new Date(), new Date(System.currentTimeMillis() + ONE_WEEK));
+		ReflectionTestUtils.setField(product, "productId", productId);
+		return product;
+	}
+
+	// 더미 User 생성(DB 미사용)
+	static User user(int userId) {
+		User user = new User("앨런머스크", "4321");
+		ReflectionTestUtils.setField(user, "userId", userId);
+		return user;
+	}
+
+	// 상품/유저에 고르게 분산된 더미 InvestOrder 목록 생성(DB 미사용)
+	static List<InvestOrder> orders(int numberOfOrders, int numberOfProducts, int numberOfUsers) {
+		final SplittableRandom random = new SplittableRandom(numberOfOrders);
+		final long now = System.currentTimeMillis();
+		final Product[] products = new Product[numberOfProducts];
+		final User[] users = new User[numberOfUsers];
+
+		for(int i = 0; i < numberOfProducts; i++) {
+			products[i] = product(FIRST_PRODUCT_ID + i, Integer.MAX_VALUE);
+		}
+		for(int i = 0; i < numberOfUsers; i++) {
+			users[i] = user(FIRST_USER_ID + i);
+		}
+
+		List<InvestOrder> orders = new ArrayList<>(numberOfOrders);
+		for(int i = 0; i < numberOfOrders; i++) {
+			InvestOrder order = InvestOrder.of(users[random.nextInt(numberOfUsers)], products[random.nextInt(numberOfProducts)], 1 + random.nextInt(100_000), Integer.MAX_VALUE);
+			ReflectionTestUtils.setField(order, "orderId", i + 1);
+			ReflectionTestUtils.setField(order, "investedAt", new Date(now - random.nextInt(Integer.MAX_VALUE)));
+			orders.add(order);
+		}
+		return orders;
+	}
+
+	// In-Memory H2를 사용하는 애플리케이션 기동
+	static ConfigurableApplicationContext startApplication(String databaseName, String... properties) {
+		List<String> settings = new ArrayList<>();
+		settings.add("spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+		settings.add("spring.jpa.show-sql=false");
+		settings.add("logging.level.root=warn");
+		for(String property : properties) {
+			settings.add(property);
+		}
+
+		return new SpringApplicationBuilder(InvestApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(settings.toArray(new String[0]))
+				.run();
+	}
+}
@@ -0,0 +1,58 @@
+package com.assets.invest.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @title : 벤치마크 실행
+ * @content :
+ * 1. 단일 스레드 벤치마크를 1회 실행한다.
+ * 2. *ContentionBenchmark 는 jmh.threads 의 스레드 수 별로 반복 실행한다.
+ * 3. 결과는 jmh.resultDir 에 JSON으로 저장한다. (배포 전 회귀 비교용)
+ *
+ * 실행 : ./mvnw -P jmh test-compile exec:exec -Djmh.include=InvestOrders -Djmh.threads=1,8,64
+ */
+public class BenchmarkRunner {
+	static final String CONTENTION = "ContentionBenchmark";
+	static final String NOT_CONTENTION = "^(?!.*" + CONTENTION + ")";
+
+	public static void main(String[] args) throws RunnerException {
+		final String include = System.getProperty("jmh.include", ".*");
+		final String[] threads = System.getProperty("jmh.threads", "1").split(",");
+		final File resultDir = new File(System.getProperty("jmh.resultDir", "target/jmh"));
+		resultDir.mkdirs();
+
+		run(new OptionsBuilder()
+				.include(include)
+				.exclude(CONTENTION)
+				.resultFormat(ResultFormatType.JSON)
+				.result(new File(resultDir, "single-thread.json").getPath())
+				.build());
+
+		for(String thread : threads) {
+			final int numberOfThreads = Integer.parseInt(thread.trim());
+
+			run(new OptionsBuilder()
+					.include(include)
+					.exclude(NOT_CONTENTION)
+					.threads(numberOfThreads)
+					.resultFormat(ResultFormatType.JSON)
+					.result(new File(resultDir, "contention-" + numberOfThreads + "threads.json").getPath())
+					.build());
+		}
+	}
+
+	private static void run(Options options) throws RunnerException {
+		try {
+			new Runner(options).run();
+		} catch(NoBenchmarksException e) {
+			// jmh.include 에 해당하는 벤치마크가 없는 경우 건너뛴다.
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.assets.invest.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.InvestOrders;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+
+// InvestOrders 집계 성능(주문 수 1천 ~ 1백만 건)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(value=1, jvmArgsAppend={"-Xms2g", "-Xmx2g"})
+public class InvestOrdersBenchmark {
+	static final int NUMBER_OF_PRODUCTS = 10;
+	static final int NUMBER_OF_USERS = 1_000;
+
+	@Param({"1000", "100000", "1000000"})
+	int numberOfOrders;
+
+	InvestOrders orders;
+	Product product;
+	User user;
+
+	@Setup
+	public void setUp() {
+		final List<InvestOrder> investOrders = BenchmarkFixtures.orders(numberOfOrders, NUMBER_OF_PRODUCTS, NUMBER_OF_USERS);
+
+		orders  = new InvestOrders(investOrders);
+		product = investOrders.get(0).getProduct();
+		user    = investOrders.get(0).getUser();
+	}
+
+	@Benchmark
+	public int sumInvestedAmountByProduct() {
+		return orders.sumInvestedAmountByProduct(product);
+	}
+
+	@Benchmark
+	public int sumInvestedAmountByUser() {
+		return orders.sumInvestedAmountByUser(product, user);
+	}
+
+	@Benchmark
+	public int investableAmount() {
+		return orders.investableAmount(product);
+	}
+
+	@Benchmark
+	public int numberOfInvestors() {
+		return orders.numberOfInvestors(product);
+	}
+
+	@Benchmark
+	public String firstInvestedDate() {
+		return orders.firstInvestedDate(product, user);
+	}
+}
@@ -0,0 +1,112 @@
+package com.assets.invest.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+import com.assets.invest.service.InvestService;
+
+/**
+ * 투자하기 / 전체 상품 조회 처리량 (In-Memory H2)
+ * BenchmarkRunner가 스레드 수(1 ~ 64)를 바꿔가며 실행한다.
+ * - hotProduct=true  : 모든 스레드가 하나의 상품에 투자(상품 오픈 시점)
+ * - hotProduct=false : 스레드마다 서로 다른 상품에 투자
+ * - writeMode=group-commit : 주문을 batch로 모아 commit(admissionMode 무관)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class InvestServiceContentionBenchmark {
+	static final int NUMBER_OF_PRODUCTS = 64;
+	static final int INVEST_AMOUNT = 1;
+
+	@State(Scope.Benchmark)
+	public static class Application {
+		@Param({"local", "database"})
+		String admissionMode;
+
+		@Param({"true", "false"})
+		boolean hotProduct;
+
+		@Param({"direct", "group-commit"})
+		String writeMode;
+
+		ConfigurableApplicationContext context;
+		InvestService investService;
+		int[] productIds;
+		final AtomicInteger threadSequence = new AtomicInteger();
+
+		@Setup(Level.Trial)
+		public void start() {
+			context = BenchmarkFixtures.startApplication("contention" + System.nanoTime(), "invest.admission.mode=" + admissionMode, "invest.order.write-mode=" + writeMode);
+			investService = context.getBean(InvestService.class);
+
+			final ProductRepository productRepo = context.getBean(ProductRepository.class);
+			final Date finishedAt = new Date(System.currentTimeMillis() + BenchmarkFixtures.ONE_WEEK);
+
+			productIds = new int[NUMBER_OF_PRODUCTS];
+			for(int i = 0; i < NUMBER_OF_PRODUCTS; i++) {
+				productIds[i] = productRepo.save(new Product("개인신용 포트폴리오 " + i, Integer.MAX_VALUE, new Date(), finishedAt)).getProductId();
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void stop() {
+			context.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Investor {
+		int userId;
+		int productId;
+
+		@Setup(Level.Trial)
+		public void setUp(Application application) {
+			final int sequence = application.threadSequence.getAndIncrement();
+
+			userId    = application.context.getBean(UserRepository.class).save(new User("앨런머스크" + sequence, "4321")).getUserId();
+			productId = application.productIds[application.hotProduct ? 0 : sequence % NUMBER_OF_PRODUCTS];
+		}
+	}
+
+	@Benchmark
+	public ResultMessage investToProduct(Application application, Investor investor) {
+		return application.investService.investToProduct(investor.userId, investor.productId, INVEST_AMOUNT);
+	}
+
+	// 투자 전용 Thread Pool(invest.order.executor.pool-size) 경유
+	@Benchmark
+	public ResultMessage investToProductAsync(Application application, Investor investor) {
+		return application.investService.investToProductAsync(investor.userId, investor.productId, INVEST_AMOUNT).join();
+	}
+
+	@Benchmark
+	public List<InvestResponse> getAllProducts(Application application) {
+		return application.investService.getAllProducts();
+	}
+}
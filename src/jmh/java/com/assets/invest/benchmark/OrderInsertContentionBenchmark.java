@@ -0,0 +1,71 @@
+package com.assets.invest.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+
+/**
+ * 투자 주문 INSERT 처리량 (In-Memory H2)
+ * - allocationSize=1  : INSERT마다 NEXT VALUE FOR 조회
+ * - allocationSize=50 : 50건마다 1회 조회(pooled-lo)
+ * ./mvnw -P jmh test-compile exec:exec -Djmh.include=OrderInsert -Djmh.threads=1,8,32
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+public class OrderInsertContentionBenchmark {
+	static final int INVEST_AMOUNT = 1;
+
+	@State(Scope.Benchmark)
+	public static class Application {
+		@Param({"1", "50"})
+		int allocationSize;
+
+		ConfigurableApplicationContext context;
+		InvestOrderRepository investOrderRepo;
+		Product product;
+		User user;
+
+		@Setup(Level.Trial)
+		public void start() {
+			context = BenchmarkFixtures.startApplication("insert" + System.nanoTime(), "invest.id.allocation-size=" + allocationSize);
+			investOrderRepo = context.getBean(InvestOrderRepository.class);
+
+			product = context.getBean(ProductRepository.class).save(new Product("개인신용 포트폴리오", Integer.MAX_VALUE, new Date(), new Date(System.currentTimeMillis() + BenchmarkFixtures.ONE_WEEK)));
+			user    = context.getBean(UserRepository.class).save(new User("앨런머스크", "4321"));
+		}
+
+		@TearDown(Level.Trial)
+		public void stop() {
+			context.close();
+		}
+	}
+
+	@Benchmark
+	public InvestOrder saveOrder(Application application) {
+		return application.investOrderRepo.save(InvestOrder.of(application.user, application.product, INVEST_AMOUNT, Integer.MAX_VALUE));
+	}
+}
@@ -0,0 +1,56 @@
+package com.assets.invest.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.dto.ProductView;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.enums.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 상품 조회 응답 변환/직렬화 성능
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class ProductViewBenchmark {
+	Product product;
+	ObjectMapper objectMapper;
+
+	@Setup
+	public void setUp() {
+		product = BenchmarkFixtures.product(BenchmarkFixtures.FIRST_PRODUCT_ID, 1_000_000);
+		product.setCurrentStatus(Status.INVESTING);
+		objectMapper = new ObjectMapper();
+	}
+
+	@Benchmark
+	public ProductView toView() {
+		return ProductView.from(product);
+	}
+
+	@Benchmark
+	public byte[] writeProductView() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ProductView.from(product));
+	}
+
+	@Benchmark
+	public byte[] writeResultMessage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(ResultMessage.of(Message.WAS_SOLD_OUT));
+	}
+}
@@ -1,15 +1,21 @@
 package com.assets.invest.controller;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import javax.validation.Validation;
 import javax.validation.ValidationException;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.assets.invest.dto.ResultMessage;
 import com.assets.invest.enums.ExceptionMessage;
+import com.assets.invest.enums.Message;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -65,6 +71,30 @@ public class ExceptionController {
 		return "[NullPointerException] " + ExceptionMessage.NULL_POINTER.getMessage();
 	}
 	
+	/**
+	 * @exception DataAccess Exception, Transaction Exception
+	 * @errorResponse 500 Internal Server Error
+	 * @see 투자 주문의 flush/commit 중 제약조건 위반 등으로 저장에 실패했을 때 처리되는 예외 (트랜잭션은 rollback됨)
+	 */
+	@ExceptionHandler({DataAccessException.class, TransactionException.class})
+	@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+	public ResultMessage PersistenceExceptionHandler(RuntimeException e) {
+		log.error("error", e);
+		return ResultMessage.of(Message.ERROR_IN_INVESTING_PROCESS);
+	}
+	
+	/**
+	 * @exception RejectedExecution Exception
+	 * @errorResponse 503 Service Unavailable
+	 * @see 투자 전용 Thread Pool의 대기열이 가득 차 투자 요청을 받지 못했을 때 처리되는 예외
+	 */
+	@ExceptionHandler(RejectedExecutionException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ResultMessage RejectedExecutionExceptionHandler(RejectedExecutionException e) {
+		log.warn("error", e);
+		return ResultMessage.of(Message.INVEST_REQUEST_REJECTED);
+	}
+	
 	/**
 	 * @exception Exception
 	 * @errorResponse 500 Internal Server Error
@@ -1,48 +1,123 @@
 package com.assets.invest.controller;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.assets.invest.dto.InvestEntry;
+import com.assets.invest.dto.InvestPage;
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.service.BulkInvestService;
 import com.assets.invest.service.InvestService;
+import com.assets.invest.service.InvestStreamWriter;
 
 @RestController
 @RequestMapping(value="Invest")
 public class InvestController {
+	static final String LAST_PRODUCT_ID = "X-LAST-PRODUCT-ID";
+	static final String PAGE_SIZE = "X-PAGE-SIZE";
 	
 	@Autowired
 	InvestService investService;
 	
+	@Autowired
+	InvestStreamWriter investStreamWriter;
+	
+	@Autowired
+	BulkInvestService bulkInvestService;
+	
 	/**
      * 전체 투자 상품 조회 API
      */
 	@GetMapping("/products")
-	public List<Map<String, String>> getAllProducts() {
+	public List<InvestResponse> getAllProducts() {
 		return investService.getAllProducts();
 	}
 	
 	/**
-     * 투자하기 API
+     * 전체 투자 상품 페이지 조회 API (X-PAGE-SIZE 헤더가 있을 때)
+     */
+	@GetMapping(value="/products", headers=PAGE_SIZE)
+	public ResponseEntity<List<InvestResponse>> getProductsPage(@RequestHeader(value=LAST_PRODUCT_ID, defaultValue="0") int lastProductId
+															, @RequestHeader(PAGE_SIZE) int pageSize) {
+		return pageOf(investService.getProductsAfter(lastProductId, pageSize));
+	}
+	
+	/**
+     * 전체 투자 상품 조회 API (Streaming)
+     */
+	@GetMapping("/products/stream")
+	public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(out -> investStreamWriter.writeAllProducts(out));
+	}
+	
+	/**
+     * 투자하기 API (투자 전용 Thread Pool에서 수행, 요청 Thread는 즉시 반환)
      */ 
 	@PostMapping("/invest/{productId}")
-	public Map<String, String> investToProduct(@PathVariable("productId") int productId
+	public CompletableFuture<ResultMessage> investToProduct(@PathVariable("productId") int productId
 											, @RequestHeader("X-USER-ID") int userId
 											, @RequestHeader("X-INVESTING-AMOUNT") int investingAmount) {
-		return investService.investToProduct(userId, productId, investingAmount);
+		return investService.investToProductAsync(userId, productId, investingAmount);
+	}
+	
+	/**
+     * 일괄 투자하기 API (상품별로 묶어 처리, 요청 순서와 같은 항목별 결과 반환)
+     */ 
+	@PostMapping("/invest/bulk")
+	public CompletableFuture<List<ResultMessage>> investToProducts(@RequestBody List<InvestEntry> entries) {
+		return bulkInvestService.investAllAsync(entries);
 	}
 
 	/**
      * 나의 투자상품 조회 API
      */
 	@GetMapping("/search/myInvests")
-	public List<Map<String, String>> getAllInvestedProducts(@RequestHeader("X-USER-ID") int userId) {
+	public List<InvestResponse> getAllInvestedProducts(@RequestHeader("X-USER-ID") int userId) {
 		return investService.getAllInvestedProducts(userId);
 	}
+
+	/**
+     * 나의 투자상품 페이지 조회 API (X-PAGE-SIZE 헤더가 있을 때)
+     */
+	@GetMapping(value="/search/myInvests", headers=PAGE_SIZE)
+	public ResponseEntity<List<InvestResponse>> getInvestedProductsPage(@RequestHeader("X-USER-ID") int userId
+																	, @RequestHeader(value=LAST_PRODUCT_ID, defaultValue="0") int lastProductId
+																	, @RequestHeader(PAGE_SIZE) int pageSize) {
+		return pageOf(investService.getInvestedProductsAfter(userId, lastProductId, pageSize));
+	}
+
+	/**
+     * 나의 투자상품 조회 API (Streaming)
+     */
+	@GetMapping("/search/myInvests/stream")
+	public ResponseEntity<StreamingResponseBody> streamAllInvestedProducts(@RequestHeader("X-USER-ID") int userId) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(out -> investStreamWriter.writeAllInvestedProducts(userId, out));
+	}
+
+	// 다음 페이지가 있으면 마지막 상품 ID를 X-LAST-PRODUCT-ID 응답 헤더로 전달한다.(다음 요청에 그대로 사용)
+	private static ResponseEntity<List<InvestResponse>> pageOf(InvestPage page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		
+		if(page.hasNext()) {
+			response.header(LAST_PRODUCT_ID, Integer.toString(page.getLastProductId()));
+		}
+		return response.body(page.getRows());
+	}
 }
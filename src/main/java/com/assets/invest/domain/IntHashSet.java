@@ -0,0 +1,97 @@
+package com.assets.invest.domain;
+
+import java.util.Arrays;
+
+/**
+ * int 전용 Hash Set (Open Addressing, Linear Probing)
+ * Integer Boxing 없이 중복 제거된 개수를 구하기 위해 사용한다.
+ */
+public class IntHashSet {
+	static final int DEFAULT_CAPACITY = 16;
+	static final int EMPTY = 0;
+
+	private int[] slots;
+	private int size;
+	private boolean containsEmptyKey; // EMPTY(0)는 별도로 관리한다.
+
+	public IntHashSet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntHashSet(int expectedSize) {
+		int capacity = DEFAULT_CAPACITY;
+		while(capacity < expectedSize * 2) {
+			capacity <<= 1;
+		}
+		this.slots = new int[capacity];
+	}
+
+	// 추가되었으면 true, 이미 있으면 false
+	public boolean add(int value) {
+		if(value == EMPTY) {
+			if(containsEmptyKey) {
+				return Boolean.FALSE;
+			}
+			containsEmptyKey = Boolean.TRUE;
+			size++;
+			return Boolean.TRUE;
+		}
+
+		int index = indexOf(value, slots);
+		if(slots[index] == value) {
+			return Boolean.FALSE;
+		}
+
+		slots[index] = value;
+		if(++size * 2 > slots.length) {
+			resize();
+		}
+		return Boolean.TRUE;
+	}
+
+	public boolean contains(int value) {
+		if(value == EMPTY) {
+			return containsEmptyKey;
+		}
+		return slots[indexOf(value, slots)] == value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(slots, EMPTY);
+		size = 0;
+		containsEmptyKey = Boolean.FALSE;
+	}
+
+	/*****************************************************************************/
+
+	// 값이 있는 위치 또는 들어갈 빈 위치를 반환한다.
+	private static int indexOf(int value, int[] table) {
+		final int mask = table.length - 1;
+		int index = mix(value) & mask;
+
+		while(table[index] != EMPTY && table[index] != value) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private void resize() {
+		final int[] resized = new int[slots.length << 1];
+
+		for(int value : slots) {
+			if(value != EMPTY) {
+				resized[indexOf(value, resized)] = value;
+			}
+		}
+		slots = resized;
+	}
+
+	private static int mix(int value) {
+		final int hash = value * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -8,9 +8,9 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
@@ -18,6 +18,8 @@ import javax.persistence.Transient;
 import javax.validation.ValidationException;
 
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
@@ -30,19 +32,23 @@ import lombok.ToString;
 @Entity
 @DynamicInsert
 @NoArgsConstructor
-@SequenceGenerator(name="ORDER_SEQ_GENERATOR",
-				sequenceName="ORDER_SEQUENCE",
-				initialValue=1001,
-				allocationSize=1)
-@Table(name = "IV_INVEST_ORDER")
+@GenericGenerator(name="ORDER_SEQ_GENERATOR",
+				strategy="com.assets.invest.persistence.PooledSequenceGenerator",	// invest.id.allocation-size 단위로 ID 할당
+				parameters={@Parameter(name="sequence_name", value="ORDER_SEQUENCE"),
+							@Parameter(name="initial_value", value="1001")})
+@Table(name = "IV_INVEST_ORDER",
+	   indexes = {
+			   @Index(name="IX_INVEST_ORDER_USER",    columnList="USER_ID, PRODUCT_ID, investedAt"),		// 나의 투자상품 조회
+			   @Index(name="IX_INVEST_ORDER_PRODUCT", columnList="PRODUCT_ID, USER_ID, investingAmount")	// 상품별 투자 금액/투자자 집계(Covering)
+	   })
 public class InvestOrder {
 	@Id @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="ORDER_SEQ_GENERATOR")
 	private int orderId;
 
-	@Column(columnDefinition="NOT NULL")
+	@Column(columnDefinition="integer not null")
 	private int investingAmount;
 
-	@Column(insertable=false, updatable=false, columnDefinition="TIMESTAMP DEFAULT SYSDATE")
+	@Column(updatable=false, columnDefinition="TIMESTAMP DEFAULT SYSDATE")	// 주문 생성 시각 (commit 이벤트와 같은 값을 저장)
 	@Temporal(value = TemporalType.TIMESTAMP)
 	private Date investedAt;
 	
@@ -81,6 +87,7 @@ public class InvestOrder {
 		this.user            = user;
 		this.product         = product;
 		this.investingAmount = investingAmount;
+		this.investedAt      = new Date();
 	}
 	
 	// [정적 팩토리 메소드] 총 투자 모집 금액 보다 낮거나 같은 투자금으로만 생성자를 호출할 수 있다.
@@ -91,6 +98,14 @@ public class InvestOrder {
         return new InvestOrder(user, product, investingAmount);
 	}
 	
+	// [정적 팩토리 메소드] 미리 확보(예약)한 투자 가능 금액 이내의 투자금으로만 생성자를 호출할 수 있다.
+	public static InvestOrder of(User user, Product product, int investingAmount, int investableAmount) {
+		if(investingAmount <= 0 || investingAmount > investableAmount) {
+			throw new ValidationException("Validation error: 현재 투자할 수 없는 금액입니다.");
+		}
+		return new InvestOrder(user, product, investingAmount);
+	}
+	
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -1,9 +1,7 @@
 package com.assets.invest.domain;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class InvestOrders {
 	private final List<InvestOrder> orders;
@@ -11,17 +9,17 @@ public class InvestOrders {
 	public InvestOrders(List<InvestOrder> orders) {
 		this.orders = orders;
 	}
-	
+
 	// 전체 오더 수 반환
 	public int getSize() {
 		return orders.size();
 	}
-	
+
 	// 특정 순번 오더 반환
 	public InvestOrder get(int sequence) {
 		return orders.get(sequence);
 	}
-	
+
 	// 전체 투자금액 계산
 	public int sumInvestedAmount() {
 		int sum = 0;
@@ -30,12 +28,14 @@ public class InvestOrders {
 		}
 		return sum;
 	}
-	
+
 	// 특정 상품의 투자 금액 합계
 	public int sumInvestedAmountByProduct(Product product) {
+		final int PRODUCT_ID = product.getProductId();
 		int sum = 0;
+
 		for(InvestOrder order : this.orders) {
-			if( product.equals(order.getProduct()) ) {
+			if( productIdOf(order) == PRODUCT_ID ) {
 				sum += order.getInvestingAmount();
 			}
 		}
@@ -44,63 +44,70 @@ public class InvestOrders {
 
 	// 유저의 특정 상품 투자액 구하기
 	public int sumInvestedAmountByUser(Product product, User user) {
+		final int PRODUCT_ID = product.getProductId();
+		final int USER_ID = user.getUserId();
 		int sum = 0;
-		boolean isEqualProduct = Boolean.FALSE;
-		boolean isEqualUser = Boolean.FALSE;
-		
+
 		for(InvestOrder order : this.orders) {
-			isEqualProduct = product.equals(order.getProduct());
-			isEqualUser = user.equals(order.getUser());
-			
-			if( isEqualProduct && isEqualUser) {
+			if( productIdOf(order) == PRODUCT_ID && userIdOf(order) == USER_ID ) {
 				sum += order.getInvestingAmount();
 			}
 		}
 		return sum;
 	}
-	
+
 	// 특정 상품의 현재 투자 가능 금액
 	public int investableAmount(Product product) {
 		final int ZERO = 0;
-		
+
 		final int CURRENTLY_INVESTED_AMOUNT = this.sumInvestedAmountByProduct(product);
 		final int INVESTING_LIMIT = product.getTotalInvestingAmount();
 		final int BALANCE = INVESTING_LIMIT - CURRENTLY_INVESTED_AMOUNT;
-		
+
 		return BALANCE <= ZERO ? ZERO : BALANCE;
 	}
-	
+
 	// 중복없이 특정 상품의 전체 투자자 구하기
 	public int numberOfInvestors(Product product) {
-		Map<Integer, Integer> investors = new HashMap<>();
-		int userId = 0;
+		final int PRODUCT_ID = product.getProductId();
+		IntHashSet investors = new IntHashSet();
 
 		for(InvestOrder order : this.orders) {
-			if( product.equals(order.getProduct()) ) {
-				userId = order.getUser().getUserId();
-				investors.put(userId, 1);
+			if( productIdOf(order) == PRODUCT_ID ) {
+				investors.add(userIdOf(order));
 			}
 		}
 
 		return investors.size();
 	}
-	
+
 	// 상품의 최초 투자일자 조회
 	public String firstInvestedDate(Product product, User user) {
-		boolean isEqualProduct = Boolean.FALSE;
-		boolean isEqualUser = Boolean.FALSE;
-		Date targetDate = new Date();
-		
+		final int PRODUCT_ID = product.getProductId();
+		final int USER_ID = user.getUserId();
+		long firstInvestedAt = System.currentTimeMillis();
+
 		for(InvestOrder order : this.orders) {
-			isEqualProduct = product.equals(order.getProduct());
-			isEqualUser = user.equals(order.getUser());
-			
-			Date investedDate = order.getInvestedAt();
-			
-			if(isEqualProduct && isEqualUser && targetDate.compareTo(investedDate) > 0)
-				targetDate = investedDate;
+			if( productIdOf(order) == PRODUCT_ID && userIdOf(order) == USER_ID ) {
+				firstInvestedAt = earlierOf(firstInvestedAt, order.getInvestedAt());
+			}
 		}
-		
-		return targetDate.toString();
+
+		return new Date(firstInvestedAt).toString();
+	}
+
+	/*****************************************************************************/
+
+	private static int productIdOf(InvestOrder order) {
+		return order.getProduct().getProductId();
+	}
+
+	private static int userIdOf(InvestOrder order) {
+		return order.getUser().getUserId();
+	}
+
+	// 투자 일시는 DB 기본값(SYSDATE)이므로 flush 전 주문은 null일 수 있다.
+	private static long earlierOf(long time, Date investedAt) {
+		return investedAt == null ? time : Math.min(time, investedAt.getTime());
 	}
 }
@@ -2,24 +2,28 @@ package com.assets.invest.domain;
 
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import com.assets.invest.enums.Status;
+import com.assets.invest.service.ProductLimitListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -34,11 +38,14 @@ import lombok.ToString;
 @JsonIgnoreProperties("investOrders")
 @DynamicInsert
 @NoArgsConstructor
-@SequenceGenerator(name="PRODUCT_SEQ_GENERATOR",
-				sequenceName="PRODUCT_SEQUENCE",
-				initialValue=101,
-				allocationSize=1)
-@Table(name = "IV_PRODUCT")
+@EntityListeners(ProductLimitListener.class)	// 수정 시 매진 등록 해제
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region="product")	// 2차 Cache : 상품명, 모집 금액, 모집 기간 (누적 값은 조회 쿼리로 읽는다.)
+@GenericGenerator(name="PRODUCT_SEQ_GENERATOR",
+				strategy="com.assets.invest.persistence.PooledSequenceGenerator",	// invest.id.allocation-size 단위로 ID 할당
+				parameters={@Parameter(name="sequence_name", value="PRODUCT_SEQUENCE"),
+							@Parameter(name="initial_value", value="101")})
+@Table(name = "IV_PRODUCT",
+	   indexes = @Index(name="IX_PRODUCT_PERIOD", columnList="startedAt, finishedAt"))	// 모집 중인 상품 조회
 public class Product {
 	@Id @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="PRODUCT_SEQ_GENERATOR")
 	private int productId;
@@ -72,10 +79,12 @@ public class Product {
 	@OneToMany(mappedBy="product", fetch=FetchType.LAZY)
 	private List<InvestOrder> investOrders = new ArrayList<>();
 	
-	@Transient
+	// 투자 트랜잭션에서 조건부 UPDATE로만 변경되는 누적 값(Entity 저장 시 덮어쓰지 않음)
+	// 2차 Cache를 무효화하지 않고 갱신되므로, findById로 읽은 값은 최신이 아닐 수 있다.(findByProductId/Projection 사용)
+	@Column(insertable=false, updatable=false, columnDefinition="integer default 0 not null")
 	private int numberOfInvestors;
 	
-	@Transient
+	@Column(insertable=false, updatable=false, columnDefinition="integer default 0 not null")
 	private int currentlyInvestedAmount;
 	
 	@Transient
@@ -112,9 +121,7 @@ public class Product {
 	}
 	
 	// @Transient 필드 setting 메소드
-	public void setCurrentStatus(int numberOfInvestors, int currentlyInvestedAmount, Status status) {
-		this.numberOfInvestors = numberOfInvestors;
-		this.currentlyInvestedAmount = currentlyInvestedAmount;
+	public void setCurrentStatus(Status status) {
 		this.investmentStatus = status.getStatus();
 	}
 	
@@ -130,10 +137,7 @@ public class Product {
 	
 	// 투자 모집금액을 모두 채웠는지 확인
 	public boolean nowFullAmount() {
-		InvestOrders orders = new InvestOrders(this.getInvestOrders());
-		int investedAmount = orders.sumInvestedAmountByProduct(this);
-		
-		if(this.totalInvestingAmount == investedAmount) {
+		if(this.totalInvestingAmount == this.currentlyInvestedAmount) {
 			return Boolean.TRUE;
 		} else {
 			return Boolean.FALSE;
@@ -166,20 +170,4 @@ public class Product {
 		else
 			return Boolean.FALSE;
 	}
-	
-	// Product -> Map 변환
-	public Map<String, String> convertToMapForView() {
-		Map<String, String> map = new HashMap<>();
-		
-		map.put("productId"				 , Integer.toString(this.productId));
-		map.put("productNm"				 , this.productNm);
-		map.put("totalInvestingAmount"	 , Integer.toString(this.totalInvestingAmount));
-		map.put("currentlyInvestedAmount", Integer.toString(this.currentlyInvestedAmount));
-		map.put("numberOfInvestors"		 , Integer.toString(this.numberOfInvestors));
-		map.put("investmentStatus"		 , this.investmentStatus);
-		map.put("startedAt"				 , this.startedAt.toString());
-		map.put("finishedAt"			 , this.finishedAt.toString());
-		
-		return map;
-	}
 }
\ No newline at end of file
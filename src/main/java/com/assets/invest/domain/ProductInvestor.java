@@ -0,0 +1,51 @@
+package com.assets.invest.domain;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 상품별 중복없는 투자자 목록(투자자 수 집계용)
+@Getter
+@ToString
+@Entity
+@NoArgsConstructor
+@IdClass(ProductInvestor.ProductInvestorId.class)
+@Table(name = "IV_PRODUCT_INVESTOR")
+public class ProductInvestor {
+	@Id
+	@Column(name="PRODUCT_ID")
+	private int productId;
+
+	@Id
+	@Column(name="USER_ID")
+	private int userId;
+
+	public ProductInvestor(int productId, int userId) {
+		this.productId = productId;
+		this.userId = userId;
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@NoArgsConstructor
+	public static class ProductInvestorId implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private int productId;
+		private int userId;
+
+		public ProductInvestorId(int productId, int userId) {
+			this.productId = productId;
+			this.userId = userId;
+		}
+	}
+}
@@ -11,10 +11,13 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
-import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -30,10 +33,11 @@ import lombok.ToString;
 @JsonIgnoreProperties("investOrders")
 @DynamicInsert
 @NoArgsConstructor
-@SequenceGenerator(name="USER_SEQ_GENERATOR",
-				sequenceName="USER_SEQUENCE",
-				initialValue=10001,
-				allocationSize=1)
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region="user")	// 2차 Cache (이름 변경 시 commit과 함께 갱신)
+@GenericGenerator(name="USER_SEQ_GENERATOR",
+				strategy="com.assets.invest.persistence.PooledSequenceGenerator",	// invest.id.allocation-size 단위로 ID 할당
+				parameters={@Parameter(name="sequence_name", value="USER_SEQUENCE"),
+							@Parameter(name="initial_value", value="10001")})
 @Table(name = "IV_USER")
 public class User {
 	@Id @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="USER_SEQ_GENERATOR")
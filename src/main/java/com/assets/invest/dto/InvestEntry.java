@@ -0,0 +1,31 @@
+package com.assets.invest.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * @title : 일괄 투자하기 요청 항목
+ * @content :
+ * 일괄 투자하기 요청 Body의 1건(유저 ID, 상품 ID, 투자 금액)이다.
+ */
+@Getter
+@ToString
+public class InvestEntry {
+	private final int userId;
+	private final int productId;
+	private final int investingAmount;
+
+	@JsonCreator
+	private InvestEntry(@JsonProperty("userId") int userId, @JsonProperty("productId") int productId, @JsonProperty("investingAmount") int investingAmount) {
+		this.userId = userId;
+		this.productId = productId;
+		this.investingAmount = investingAmount;
+	}
+
+	public static InvestEntry of(int userId, int productId, int investingAmount) {
+		return new InvestEntry(userId, productId, investingAmount);
+	}
+}
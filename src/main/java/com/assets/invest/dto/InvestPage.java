@@ -0,0 +1,29 @@
+package com.assets.invest.dto;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @title : Keyset 페이지 조회 결과
+ * @content :
+ * 1. 조회된 응답 항목과, 다음 페이지 조회에 사용할 마지막 상품 ID를 담는다.
+ * 2. 페이지가 가득 차지 않았으면 다음 페이지가 없으므로 lastProductId는 null이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InvestPage {
+	private final List<InvestResponse> rows;
+	private final Integer lastProductId;
+
+	public static InvestPage of(List<InvestResponse> rows, Integer lastProductId) {
+		return new InvestPage(rows, lastProductId);
+	}
+
+	// 다음 페이지 존재 가능 여부
+	public boolean hasNext() {
+		return lastProductId != null;
+	}
+}
@@ -0,0 +1,5 @@
+package com.assets.invest.dto;
+
+// API 응답 항목 (상품 목록/나의 투자상품 목록에는 조회 결과 또는 결과 메시지가 담긴다.)
+public interface InvestResponse {
+}
@@ -0,0 +1,45 @@
+package com.assets.invest.dto;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.enums.Message;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * @title : 투자하기 결과 응답
+ * @content :
+ * 1. 투자 완료 시 결과 메시지와 함께 투자한 상품 ID/상품명/투자 금액을 응답한다.
+ * 2. 투자가능 금액 초과 시 결과 메시지와 함께 현재 투자가능 금액을 응답한다.
+ * (값이 없는 항목은 응답에서 제외한다.)
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InvestResult extends ResultMessage {
+	private final Integer investedProductId;
+	private final String investedProductNm;
+	private final Integer investedAmount;
+
+	@JsonProperty("RESULT_INVESTABLE_AMOUNT")
+	private final Integer investableAmount;
+
+	private InvestResult(Message message, String resultMessage, Integer investedProductId, String investedProductNm, Integer investedAmount, Integer investableAmount) {
+		super(message, resultMessage);
+		this.investedProductId = investedProductId;
+		this.investedProductNm = investedProductNm;
+		this.investedAmount = investedAmount;
+		this.investableAmount = investableAmount;
+	}
+
+	// 투자 완료 (COMPLETE, COMPLETELY_SOLD_OUT)
+	public static InvestResult completed(Message message, Product product, final int INVESTING_AMOUNT) {
+		return new InvestResult(message, message.getMessageContent(), product.getProductId(), product.getProductNm(), INVESTING_AMOUNT, null);
+	}
+
+	// 투자가능 금액 초과 (OVERFLOW_INVESTABLE_AMOUNT)
+	public static InvestResult overflowed(Product product, final int REMAINING_INVESTABLE_AMOUNT) {
+		final String resultMessage = "[" + product.getProductNm() + "]상품의 투자가능 금액이 초과하였습니다.<br>현재 투자가능 금액: " + REMAINING_INVESTABLE_AMOUNT;
+		return new InvestResult(Message.OVERFLOW_INVESTABLE_AMOUNT, resultMessage, null, null, null, REMAINING_INVESTABLE_AMOUNT);
+	}
+}
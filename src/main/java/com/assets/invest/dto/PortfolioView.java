@@ -0,0 +1,29 @@
+package com.assets.invest.dto;
+
+import java.util.Date;
+
+import com.assets.invest.persistence.PortfolioSummary;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 나의 투자상품 조회 응답 (상품 1건)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PortfolioView implements InvestResponse {
+	private final int productId;
+	private final String productNm;
+	private final int totalInvestingAmount;	// 상품의 총 모집 금액
+	private final long myInvestedAmount;	// 나의 투자 금액
+	private final Date investedAt;			// 나의 최초 투자 일시
+
+	// PortfolioSummary -> 응답 변환
+	public static PortfolioView from(PortfolioSummary investment) {
+		return new PortfolioView(investment.getProductId()
+							, investment.getProductNm()
+							, investment.getTotalInvestingAmount()
+							, investment.getMyInvestedAmount()
+							, investment.getInvestedAt());
+	}
+}
@@ -0,0 +1,48 @@
+package com.assets.invest.dto;
+
+import java.util.Date;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.persistence.ProductSummary;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 전체 투자 상품 조회 응답 (상품 1건)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductView implements InvestResponse {
+	private final int productId;
+	private final String productNm;
+	private final int totalInvestingAmount;
+	private final int currentlyInvestedAmount;
+	private final int numberOfInvestors;
+	private final String investmentStatus;
+	private final Date startedAt;
+	private final Date finishedAt;
+
+	// ProductSummary -> 응답 변환
+	public static ProductView from(ProductSummary product) {
+		return new ProductView(product.getProductId()
+							, product.getProductNm()
+							, product.getTotalInvestingAmount()
+							, product.getCurrentlyInvestedAmount()
+							, product.getNumberOfInvestors()
+							, product.getInvestmentStatus().getStatus()
+							, product.getStartedAt()
+							, product.getFinishedAt());
+	}
+
+	// Product -> 응답 변환
+	public static ProductView from(Product product) {
+		return new ProductView(product.getProductId()
+							, product.getProductNm()
+							, product.getTotalInvestingAmount()
+							, product.getCurrentlyInvestedAmount()
+							, product.getNumberOfInvestors()
+							, product.getInvestmentStatus()
+							, product.getStartedAt()
+							, product.getFinishedAt());
+	}
+}
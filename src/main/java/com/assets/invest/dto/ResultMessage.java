@@ -0,0 +1,46 @@
+package com.assets.invest.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.assets.invest.enums.Message;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+
+/**
+ * @title : 결과 메시지 응답
+ * @content :
+ * 1. Message의 결과 상태/코드/메시지를 RESULT_FLAG/RESULT_CODE/RESULT_MESSAGE로 응답한다.
+ * 2. 변경 불가능한 객체이므로, 고정된 Message는 미리 생성한 인스턴스를 공유한다.
+ */
+@Getter
+public class ResultMessage implements InvestResponse {
+	private static final Map<Message, ResultMessage> CONSTANTS = new EnumMap<>(Message.class);
+
+	static {
+		for(Message message : Message.values()) {
+			CONSTANTS.put(message, new ResultMessage(message, message.getMessageContent()));
+		}
+	}
+
+	@JsonProperty("RESULT_FLAG")
+	private final String resultFlag;
+
+	@JsonProperty("RESULT_CODE")
+	private final String resultCode;
+
+	@JsonProperty("RESULT_MESSAGE")
+	private final String resultMessage;
+
+	protected ResultMessage(Message message, String resultMessage) {
+		this.resultFlag = message.getMessageResult();
+		this.resultCode = message.getMessageCode();
+		this.resultMessage = resultMessage;
+	}
+
+	// Message -> 결과 메시지 (공유 인스턴스)
+	public static ResultMessage of(Message message) {
+		return CONSTANTS.get(message);
+	}
+}
@@ -13,7 +13,9 @@ public enum Message {
 	ERROR_IN_INVESTING_PROCESS("N", "-2004", "투자과정에서 오류가 발생하였습니다."),
 	INVESTING_AMOUNT_LESS_THAN_ZERO("N", "-2005", "투자금액은 1원 이상이어야 합니다."),
 	NO_INVESTED_EVER("N", "-2006", "투자하신 이력이 없습니다."),
-	WAS_SOLD_OUT("N", "-2007", "상품이 마감되었습니다.");
+	WAS_SOLD_OUT("N", "-2007", "상품이 마감되었습니다."),
+	INVEST_REQUEST_REJECTED("N", "-2008", "투자 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+	TOO_MANY_INVEST_ENTRIES("N", "-2009", "한 번에 투자할 수 있는 주문 수를 초과하였습니다.");
 	
 	private final String messageResult;
 	private final String messageCode;
@@ -1,7 +1,13 @@
 package com.assets.invest.persistence;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
 import com.assets.invest.domain.InvestOrder;
@@ -16,4 +22,59 @@ public interface InvestOrderRepository extends CrudRepository<InvestOrder, Integ
 	List<InvestOrder> findAllByProduct(Product product);
 	
 	InvestOrder findByOrderId(int orderId);
+	
+	@Query("SELECT COALESCE(SUM(ORD.investingAmount), 0) FROM InvestOrder ORD WHERE ORD.product.productId = ?1")
+	long sumInvestingAmountByProductId(int productId);
+	
+	// 유저가 투자한 상품 별 나의 투자 금액, 최초 투자 일시, 상품의 총 모집 금액 (IX_INVEST_ORDER_USER 사용)
+	@Query("SELECT PRD.productId               AS productId,            "
+		 + "       PRD.productNm               AS productNm,            "
+		 + "       PRD.currentlyInvestedAmount AS totalInvestingAmount, "
+		 + "       SUM(ORD.investingAmount)    AS myInvestedAmount,     "
+		 + "       MIN(ORD.investedAt)         AS investedAt            "
+		 + "  FROM InvestOrder ORD                                      "
+		 + "  JOIN ORD.product PRD                                      "
+		 + " WHERE ORD.user.userId = ?1                                 "
+		 + " GROUP BY PRD.productId, PRD.productNm, PRD.currentlyInvestedAmount "
+		 + " ORDER BY PRD.productId")
+	List<PortfolioSummary> findPortfolioByUserId(int userId);
+	
+	// 전체 투자 주문의 통계용 컬럼 Cursor 조회 (기동 시 InvestStatisticsStore 재구성용)
+	@QueryHints({@QueryHint(name="org.hibernate.fetchSize", value="500"), @QueryHint(name="org.hibernate.readOnly", value="true")})
+	@Query("SELECT PRD.productId       AS productId,       "
+		 + "       PRD.productNm       AS productNm,       "
+		 + "       ORD.user.userId     AS userId,          "
+		 + "       ORD.investingAmount AS investingAmount, "
+		 + "       ORD.investedAt      AS investedAt       "
+		 + "  FROM InvestOrder ORD                         "
+		 + "  JOIN ORD.product PRD                         ")
+	Stream<InvestOrderRow> streamAllOrderRows();
+	
+	// findPortfolioByUserId의 Cursor 조회 (트랜잭션 안에서 소비 후 close, fetch size 단위로 읽는다.)
+	@QueryHints({@QueryHint(name="org.hibernate.fetchSize", value="500"), @QueryHint(name="org.hibernate.readOnly", value="true")})
+	@Query("SELECT PRD.productId               AS productId,            "
+		 + "       PRD.productNm               AS productNm,            "
+		 + "       PRD.currentlyInvestedAmount AS totalInvestingAmount, "
+		 + "       SUM(ORD.investingAmount)    AS myInvestedAmount,     "
+		 + "       MIN(ORD.investedAt)         AS investedAt            "
+		 + "  FROM InvestOrder ORD                                      "
+		 + "  JOIN ORD.product PRD                                      "
+		 + " WHERE ORD.user.userId = ?1                                 "
+		 + " GROUP BY PRD.productId, PRD.productNm, PRD.currentlyInvestedAmount "
+		 + " ORDER BY PRD.productId")
+	Stream<PortfolioSummary> streamPortfolioByUserId(int userId);
+	
+	// findPortfolioByUserId의 Keyset 페이지 조회 (IX_INVEST_ORDER_USER를 lastProductId 다음부터 탐색, OFFSET 없이 조회)
+	@Query("SELECT PRD.productId               AS productId,            "
+		 + "       PRD.productNm               AS productNm,            "
+		 + "       PRD.currentlyInvestedAmount AS totalInvestingAmount, "
+		 + "       SUM(ORD.investingAmount)    AS myInvestedAmount,     "
+		 + "       MIN(ORD.investedAt)         AS investedAt            "
+		 + "  FROM InvestOrder ORD                                      "
+		 + "  JOIN ORD.product PRD                                      "
+		 + " WHERE ORD.user.userId       = ?1                           "
+		 + "   AND ORD.product.productId > ?2                           "
+		 + " GROUP BY PRD.productId, PRD.productNm, PRD.currentlyInvestedAmount "
+		 + " ORDER BY PRD.productId")
+	List<PortfolioSummary> findPortfolioByUserIdAfter(int userId, int lastProductId, Pageable page);
 }
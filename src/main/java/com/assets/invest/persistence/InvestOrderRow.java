@@ -0,0 +1,16 @@
+package com.assets.invest.persistence;
+
+import java.util.Date;
+
+// 투자 주문 통계용 Projection (주문 1건)
+public interface InvestOrderRow {
+	int getProductId();
+
+	String getProductNm();
+
+	int getUserId();
+
+	int getInvestingAmount();
+
+	Date getInvestedAt();
+}
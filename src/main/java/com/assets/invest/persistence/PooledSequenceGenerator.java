@@ -0,0 +1,42 @@
+package com.assets.invest.persistence;
+
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * @title : 할당 크기를 설정할 수 있는 Pooled-Lo Sequence 생성기
+ * @content :
+ * 1. Sequence 1회 조회(NEXT VALUE FOR)로 invest.id.allocation-size 개의 ID를 할당받는다.
+ * 2. Sequence 값을 구간의 시작으로 사용하여 [값, 값 + allocation-size) 범위의 ID를 메모리에서 발급한다.(pooled-lo)
+ * 3. DB Sequence의 INCREMENT BY가 allocation-size 이상이면 Sequence 값끼리 구간이 겹치지 않으므로,
+ *    같은 DB를 공유하는 다수의 인스턴스에서도 ID가 중복되지 않는다. (SequenceAllocationAligner 참고)
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+	public static final String ALLOCATION_SIZE_SETTING = "invest.id.allocation-size";
+	static final int DEFAULT_ALLOCATION_SIZE = 1;
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+		final int allocationSize = allocationSizeOf(serviceRegistry);
+
+		params.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+		if(allocationSize > DEFAULT_ALLOCATION_SIZE) {
+			params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+		}
+
+		super.configure(type, params, serviceRegistry);
+	}
+
+	// spring.jpa.properties.invest.id.allocation-size
+	private static int allocationSizeOf(ServiceRegistry serviceRegistry) {
+		final ConfigurationService configuration = serviceRegistry.getService(ConfigurationService.class);
+		return ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING, configuration.getSettings(), DEFAULT_ALLOCATION_SIZE);
+	}
+}
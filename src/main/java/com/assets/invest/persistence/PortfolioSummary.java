@@ -0,0 +1,16 @@
+package com.assets.invest.persistence;
+
+import java.util.Date;
+
+// 나의 투자상품 조회용 Projection (상품 별 1 Row)
+public interface PortfolioSummary {
+	int getProductId();
+
+	String getProductNm();
+
+	int getTotalInvestingAmount();	// 상품의 총 모집 금액
+
+	long getMyInvestedAmount();		// 나의 투자 금액
+
+	Date getInvestedAt();			// 나의 최초 투자 일시
+}
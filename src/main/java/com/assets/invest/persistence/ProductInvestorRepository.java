@@ -0,0 +1,36 @@
+package com.assets.invest.persistence;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+
+import com.assets.invest.domain.ProductInvestor;
+import com.assets.invest.domain.ProductInvestor.ProductInvestorId;
+
+public interface ProductInvestorRepository extends CrudRepository<ProductInvestor, ProductInvestorId>{
+	// 상품의 신규 투자자일 때만 등록한다.(등록 건수 반환, Query Space를 지정하여 2차 Cache 전체가 무효화되지 않게 한다.)
+	@Modifying
+	@QueryHints(@QueryHint(name="org.hibernate.query.native.spaces", value="IV_PRODUCT_INVESTOR"))
+	@Query(value="INSERT INTO IV_PRODUCT_INVESTOR (PRODUCT_ID, USER_ID)          "
+			   + "SELECT ?1, ?2                                                  "
+			   + "  FROM DUAL                                                    "
+			   + " WHERE NOT EXISTS (SELECT 1                                    "
+			   + "                     FROM IV_PRODUCT_INVESTOR                  "
+			   + "                    WHERE PRODUCT_ID = ?1                      "
+			   + "                      AND USER_ID    = ?2)", nativeQuery=true)
+	int insertIfAbsent(int productId, int userId);
+	
+	// 투자 주문 내역 기준으로 누락된 투자자를 등록한다.
+	@Modifying
+	@Query(value="INSERT INTO IV_PRODUCT_INVESTOR (PRODUCT_ID, USER_ID)          "
+			   + "SELECT DISTINCT ORD.PRODUCT_ID, ORD.USER_ID                    "
+			   + "  FROM IV_INVEST_ORDER ORD                                     "
+			   + " WHERE NOT EXISTS (SELECT 1                                    "
+			   + "                     FROM IV_PRODUCT_INVESTOR INV              "
+			   + "                    WHERE INV.PRODUCT_ID = ORD.PRODUCT_ID      "
+			   + "                      AND INV.USER_ID    = ORD.USER_ID)", nativeQuery=true)
+	int insertAllMissingFromOrders();
+}
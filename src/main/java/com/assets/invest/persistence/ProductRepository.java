@@ -2,19 +2,80 @@ package com.assets.invest.persistence;
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
 import com.assets.invest.domain.Product;
 
 public interface ProductRepository extends CrudRepository<Product, Integer>{
+	// 누적 투자 금액/투자자 수 갱신용 Query Space (Entity Table과 겹치지 않아 2차 Cache를 무효화하지 않는다.)
+	String STATISTICS_SPACE = "IV_PRODUCT_STATISTICS";
+	
 	Product findByProductId(int productId);
 	
 	List<Product> findByStartedAtLessThanEqualAndFinishedAtGreaterThanEqual(Date currentDate1, Date currentDate2);
 
 	Product findByProductIdAndStartedAtLessThanEqualAndFinishedAtGreaterThanEqual(int productId, Date currentDate1, Date currentDate2);
 	
+	// 모집 중인 상품의 조회용 컬럼만 1회 조회한다.(누적 투자 금액/투자자 수는 투자 시점에 갱신된 값)
+	@Query("SELECT PRD.productId               AS productId,               "
+		 + "       PRD.productNm               AS productNm,               "
+		 + "       PRD.totalInvestingAmount    AS totalInvestingAmount,    "
+		 + "       PRD.currentlyInvestedAmount AS currentlyInvestedAmount, "
+		 + "       PRD.numberOfInvestors       AS numberOfInvestors,       "
+		 + "       PRD.startedAt               AS startedAt,               "
+		 + "       PRD.finishedAt              AS finishedAt               "
+		 + "  FROM Product PRD                                             "
+		 + " WHERE PRD.startedAt  <= ?1                                    "
+		 + "   AND PRD.finishedAt >= ?1                                    "
+		 + " ORDER BY PRD.productId")
+	List<ProductSummary> findAllInvestableSummaries(Date currentDate);
+	
+	// findAllInvestableSummaries의 Cursor 조회 (트랜잭션 안에서 소비 후 close, fetch size 단위로 읽는다.)
+	@QueryHints({@QueryHint(name="org.hibernate.fetchSize", value="500"), @QueryHint(name="org.hibernate.readOnly", value="true")})
+	@Query("SELECT PRD.productId               AS productId,               "
+		 + "       PRD.productNm               AS productNm,               "
+		 + "       PRD.totalInvestingAmount    AS totalInvestingAmount,    "
+		 + "       PRD.currentlyInvestedAmount AS currentlyInvestedAmount, "
+		 + "       PRD.numberOfInvestors       AS numberOfInvestors,       "
+		 + "       PRD.startedAt               AS startedAt,               "
+		 + "       PRD.finishedAt              AS finishedAt               "
+		 + "  FROM Product PRD                                             "
+		 + " WHERE PRD.startedAt  <= ?1                                    "
+		 + "   AND PRD.finishedAt >= ?1                                    "
+		 + " ORDER BY PRD.productId")
+	Stream<ProductSummary> streamAllInvestableSummaries(Date currentDate);
+	
+	// findAllInvestableSummaries의 Keyset 페이지 조회 (lastProductId 다음 상품부터 page 크기만큼, OFFSET 없이 조회)
+	@Query("SELECT PRD.productId               AS productId,               "
+		 + "       PRD.productNm               AS productNm,               "
+		 + "       PRD.totalInvestingAmount    AS totalInvestingAmount,    "
+		 + "       PRD.currentlyInvestedAmount AS currentlyInvestedAmount, "
+		 + "       PRD.numberOfInvestors       AS numberOfInvestors,       "
+		 + "       PRD.startedAt               AS startedAt,               "
+		 + "       PRD.finishedAt              AS finishedAt               "
+		 + "  FROM Product PRD                                             "
+		 + " WHERE PRD.startedAt  <= ?1                                    "
+		 + "   AND PRD.finishedAt >= ?1                                    "
+		 + "   AND PRD.productId  >  ?2                                    "
+		 + " ORDER BY PRD.productId")
+	List<ProductSummary> findInvestableSummariesAfter(Date currentDate, int lastProductId, Pageable page);
+	
+	// 기준 일시 이후 가장 먼저 모집을 시작하는 일시
+	@Query("SELECT MIN(PRD.startedAt) FROM Product PRD WHERE PRD.startedAt > ?1")
+	Date findNextStartedAt(Date currentDate);
+	
+	// 기준 일시 이후 가장 먼저 모집을 종료하는 일시
+	@Query("SELECT MIN(PRD.finishedAt) FROM Product PRD WHERE PRD.finishedAt >= ?1")
+	Date findNextFinishedAt(Date currentDate);
+	
 	@Query(value="SELECT DISTINCT PRD.*                  "
 			   + "  FROM IV_USER         USR,            "
 			   + "       IV_PRODUCT      PRD,            "
@@ -23,4 +84,41 @@ public interface ProductRepository extends CrudRepository<Product, Integer>{
 			   + "   AND ORD.PRODUCT_ID = PRD.PRODUCT_ID "
 			   + "   AND USR.USER_ID    = ?1", nativeQuery=true)
 	List<Product> findAllByInvestOrders(int userId);
+	
+	// 모집 한도 내에서만 누적 투자 금액을 증가시킨다.(갱신 건수 반환)
+	// 누적 값 전용 Query Space를 지정하여, 투자마다 상품 2차 Cache(product) 전체가 무효화되지 않게 한다.
+	@Modifying
+	@QueryHints(@QueryHint(name="org.hibernate.query.native.spaces", value=STATISTICS_SPACE))
+	@Query(value="UPDATE IV_PRODUCT                                                              "
+			   + "   SET CURRENTLY_INVESTED_AMOUNT = CURRENTLY_INVESTED_AMOUNT + ?2                "
+			   + " WHERE PRODUCT_ID = ?1                                                         "
+			   + "   AND CURRENTLY_INVESTED_AMOUNT + ?2 <= TOTAL_INVESTING_AMOUNT", nativeQuery=true)
+	int addInvestedAmount(int productId, int investingAmount);
+	
+	// 현재 투자 가능 금액 조회
+	@Query("SELECT PRD.totalInvestingAmount - PRD.currentlyInvestedAmount FROM Product PRD WHERE PRD.productId = ?1")
+	int findRemainingAmount(int productId);
+	
+	// 투자자 수 증가 (상품 2차 Cache를 무효화하지 않음)
+	@Modifying
+	@QueryHints(@QueryHint(name="org.hibernate.query.native.spaces", value=STATISTICS_SPACE))
+	@Query(value="UPDATE IV_PRODUCT SET NUMBER_OF_INVESTORS = NUMBER_OF_INVESTORS + 1 WHERE PRODUCT_ID = ?1", nativeQuery=true)
+	int increaseNumberOfInvestors(int productId);
+	
+	// 투자자 수를 신규 투자자 수만큼 증가 (일괄 투자하기, 상품 2차 Cache를 무효화하지 않음)
+	@Modifying
+	@QueryHints(@QueryHint(name="org.hibernate.query.native.spaces", value=STATISTICS_SPACE))
+	@Query(value="UPDATE IV_PRODUCT SET NUMBER_OF_INVESTORS = NUMBER_OF_INVESTORS + ?2 WHERE PRODUCT_ID = ?1", nativeQuery=true)
+	int addNumberOfInvestors(int productId, int newInvestors);
+	
+	// 투자 주문 내역 기준으로 누적 투자 금액, 투자자 수를 재계산한다.
+	@Modifying
+	@Query(value="UPDATE IV_PRODUCT PRD                                              "
+			   + "   SET CURRENTLY_INVESTED_AMOUNT = (SELECT COALESCE(SUM(ORD.INVESTING_AMOUNT), 0) "
+			   + "                                      FROM IV_INVEST_ORDER ORD     "
+			   + "                                     WHERE ORD.PRODUCT_ID = PRD.PRODUCT_ID), "
+			   + "       NUMBER_OF_INVESTORS       = (SELECT COUNT(*)                "
+			   + "                                      FROM IV_PRODUCT_INVESTOR INV "
+			   + "                                     WHERE INV.PRODUCT_ID = PRD.PRODUCT_ID)", nativeQuery=true)
+	int recalculateStatistics();
 }
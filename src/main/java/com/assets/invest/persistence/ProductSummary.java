@@ -0,0 +1,27 @@
+package com.assets.invest.persistence;
+
+import java.util.Date;
+
+import com.assets.invest.enums.Status;
+
+// 상품 조회용 Projection (Entity/투자 주문 로딩 없이 필요한 컬럼만 조회)
+public interface ProductSummary {
+	int getProductId();
+
+	String getProductNm();
+
+	int getTotalInvestingAmount();
+
+	int getCurrentlyInvestedAmount();
+
+	int getNumberOfInvestors();
+
+	Date getStartedAt();
+
+	Date getFinishedAt();
+
+	// 모집 상태
+	default Status getInvestmentStatus() {
+		return getTotalInvestingAmount() == getCurrentlyInvestedAmount() ? Status.COMPLETED : Status.INVESTING;
+	}
+}
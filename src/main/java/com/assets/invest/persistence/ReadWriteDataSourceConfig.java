@@ -0,0 +1,75 @@
+package com.assets.invest.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.assets.invest.persistence.ReadWriteRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @title : 읽기/쓰기 Connection Pool 분리
+ * @content :
+ * 1. 투자하기(쓰기)와 조회 API(읽기)가 서로 다른 Hikari Pool을 사용하여, 상품 오픈 시 Lock 대기 중인 투자 트랜잭션이
+ *    Connection을 모두 점유해도 조회 API는 영향받지 않는다.
+ * 2. Pool 설정은 invest.datasource.write.hikari.* / invest.datasource.read.hikari.* 로 각각 지정한다.
+ *    (접속 정보는 spring.datasource.*를 공유하며, invest.datasource.read.url로 읽기 전용 DB를 따로 지정할 수 있다.)
+ * 3. Pool 대기 시간/대기 Thread 수는 hikaricp.connections.acquire, hikaricp.connections.pending (pool=invest-write/invest-read)으로 확인한다.
+ * (Pool을 DataSource Bean으로 등록하면 DataSource 초기화와 순환 참조가 생기므로, Routing DataSource 안에서만 생성한다.)
+ */
+@Configuration
+public class ReadWriteDataSourceConfig {
+	static final String WRITE_POOL_NAME = "invest-write";
+	static final String READ_POOL_NAME = "invest-read";
+	static final String WRITE_POOL_PREFIX = "invest.datasource.write.hikari";
+	static final String READ_POOL_PREFIX = "invest.datasource.read.hikari";
+
+	@Bean
+	public DataSource dataSource(DataSourceProperties properties
+								, Environment environment
+								, MeterRegistry meterRegistry
+								, @Value("${invest.datasource.read.url:}") String readUrl) {
+		final HikariDataSource writeDataSource = pool(properties, environment, meterRegistry, WRITE_POOL_PREFIX, WRITE_POOL_NAME);
+		final HikariDataSource readDataSource = pool(properties, environment, meterRegistry, READ_POOL_PREFIX, READ_POOL_NAME);
+
+		readDataSource.setReadOnly(true);
+		if(StringUtils.hasText(readUrl)) {
+			readDataSource.setJdbcUrl(readUrl);
+		}
+
+		final Map<Object, Object> targets = new HashMap<>();
+		targets.put(Route.READ_WRITE, writeDataSource);
+		targets.put(Route.READ_ONLY, readDataSource);
+
+		final ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+		routingDataSource.setTargetDataSources(targets);
+		routingDataSource.setDefaultTargetDataSource(writeDataSource);
+		routingDataSource.afterPropertiesSet();
+
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	// spring.datasource.* 접속 정보 + 접두어별 Hikari 설정으로 Pool 생성
+	private static HikariDataSource pool(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry, String prefix, String poolName) {
+		final HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+		Binder.get(environment).bind(prefix, Bindable.ofInstance(dataSource));
+		dataSource.setPoolName(poolName);
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		return dataSource;
+	}
+}
@@ -0,0 +1,29 @@
+package com.assets.invest.persistence;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @title : 읽기/쓰기 DataSource Routing
+ * @content :
+ * 1. @Transactional(readOnly=true) 트랜잭션은 읽기 전용 Pool, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 쓰기 Pool의 Connection을 사용한다.
+ * 2. 트랜잭션 속성은 트랜잭션 시작 후에 설정되므로, LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 Pool을 선택한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route {
+		READ_WRITE, READ_ONLY
+	}
+
+	// Route별 Connection Pool
+	public DataSource poolOf(Route route) {
+		return getResolvedDataSources().get(route);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READ_ONLY : Route.READ_WRITE;
+	}
+}
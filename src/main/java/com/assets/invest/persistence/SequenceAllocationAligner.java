@@ -0,0 +1,57 @@
+package com.assets.invest.persistence;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : ID Sequence 증가값 정렬
+ * @content :
+ * 1. EntityManagerFactory 생성 전에, ID Sequence의 INCREMENT BY가 invest.id.allocation-size보다 작으면 늘린다.
+ * 2. INCREMENT BY는 줄이지 않는다.(더 큰 allocation-size로 동작 중인 인스턴스와 ID 구간이 겹치지 않도록)
+ *    더 큰 값이 이미 적용되어 있다면 Hibernate가 기동 시 불일치 예외를 발생시킨다.
+ * 3. Sequence가 없으면 Hibernate가 allocation-size를 증가값으로 하여 생성한다.
+ */
+@Slf4j
+@Component
+public class SequenceAllocationAligner implements InitializingBean {
+	static final List<String> ID_SEQUENCES = Arrays.asList("USER_SEQUENCE", "PRODUCT_SEQUENCE", "ORDER_SEQUENCE");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${invest.id.allocation-size:1}")
+	private int allocationSize;
+
+	@Override
+	public void afterPropertiesSet() {
+		for(String sequenceName : ID_SEQUENCES) {
+			final List<Long> increments = jdbcTemplate.queryForList("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+
+			if(! increments.isEmpty() && increments.get(0) < allocationSize) {
+				jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " INCREMENT BY " + allocationSize);
+				log.info("ID Sequence 증가값 변경 : {} {} -> {}", sequenceName, increments.get(0), allocationSize);
+			}
+		}
+	}
+
+	// Hibernate가 Sequence 정보를 읽기 전에 정렬되도록 EntityManagerFactory가 이 Bean에 의존하게 한다.
+	@Configuration
+	static class EntityManagerFactoryDependency {
+
+		@Bean
+		static EntityManagerFactoryDependsOnPostProcessor sequenceAllocationDependsOn() {
+			return new EntityManagerFactoryDependsOnPostProcessor(SequenceAllocationAligner.class);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.assets.invest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestEntry;
+import com.assets.invest.dto.InvestResult;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductInvestorRepository;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : 일괄 투자하기
+ * @content :
+ * 1. 여러 건의 (유저 ID, 상품 ID, 투자 금액)을 상품별로 묶어, 상품마다 1개의 트랜잭션에서 처리한다.
+ * 2. 유저는 요청 전체에서 1회(IN 조회), 상품은 상품별 1회(2차 Cache) 조회한다.
+ * 3. 상품별 투자 금액 합계로 CapacityGuard에서 1회 확보한다.(local 모드는 상품 Lock 1회 점유)
+ *    모집 한도를 넘으면 확보 시점의 투자 가능 금액 이내에서 요청 순서대로 담을 수 있는 주문만 골라 1회 더 확보한다.
+ * 4. 확보한 주문은 JDBC Batch INSERT로 저장하고, 신규 투자자 수는 상품별 UPDATE 1회로 반영한다.
+ * 5. 항목별 결과 메시지를 요청 순서대로 반환하며, 저장에 실패한 상품의 항목만 ERROR_IN_INVESTING_PROCESS로 응답한다.
+ * (상품별 입장 제어(ProductAdmission)는 거치지 않으며, 요청 1건당 투자 전용 Thread 1개를 사용한다.)
+ */
+@Slf4j
+@Service
+public class BulkInvestService {
+	static final int ZERO = 0;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+	@Autowired
+	private CapacityGuard capacityGuard;
+
+	@Autowired
+	private ProductListingCache productListingCache;
+
+	@Autowired
+	private InvestExecutor investExecutor;
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+	@Autowired
+	private InvestMetrics investMetrics;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Value("${invest.bulk.max-entries:1000}")
+	private int maxEntries;
+
+	/**
+	 * @title : 일괄 투자하기 (비동기, 투자 전용 Thread Pool에서 수행)
+	 * @content :
+	 * 항목 수가 invest.bulk.max-entries를 넘으면 투자하지 않고 모든 항목을 TOO_MANY_INVEST_ENTRIES로 응답한다.
+	 *
+	 * @param ENTRIES : 투자 요청 항목들
+	 * @return 요청 순서와 같은 항목별 투자 결과 상태메시지
+	 */
+	public CompletableFuture<List<ResultMessage>> investAllAsync(final List<InvestEntry> ENTRIES) {
+		// [예외] 한 번에 투자할 수 있는 주문 수를 초과한 경우
+		if(ENTRIES.size() > maxEntries) {
+			return CompletableFuture.completedFuture(Collections.nCopies(ENTRIES.size(), ResultMessage.of(Message.TOO_MANY_INVEST_ENTRIES)));
+		}
+		return investExecutor.supplyAsync(() -> investAll(ENTRIES));
+	}
+
+	/**
+	 * @title : 일괄 투자하기
+	 *
+	 * @param ENTRIES : 투자 요청 항목들
+	 * @return 요청 순서와 같은 항목별 투자 결과 상태메시지
+	 */
+	public List<ResultMessage> investAll(final List<InvestEntry> ENTRIES) {
+		final ResultMessage[] results = new ResultMessage[ENTRIES.size()];
+		final Map<Integer, User> users = investMetrics.record(InvestMetrics.LOOKUP, () -> findUsers(ENTRIES));
+
+		for(Map.Entry<Integer, List<Integer>> product : groupByProduct(ENTRIES).entrySet()) {
+			final int PRODUCT_ID = product.getKey();
+			final List<Integer> indexes = product.getValue();
+
+			// [예외] 매진 등록된 상품의 경우 (DB 조회 없음)
+			if(soldOutRegistry.isSoldOut(PRODUCT_ID)) {
+				indexes.forEach(index -> results[index] = ResultMessage.of(ENTRIES.get(index).getInvestingAmount() > ZERO ? Message.WAS_SOLD_OUT : Message.INVESTING_AMOUNT_LESS_THAN_ZERO));
+				continue;
+			}
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> investToProduct(PRODUCT_ID, indexes, ENTRIES, users, results));
+			} catch(RuntimeException e) {
+				log.error("상품 일괄 투자 실패 : productId={}, {}건", PRODUCT_ID, indexes.size(), e);
+				indexes.forEach(index -> results[index] = ResultMessage.of(Message.ERROR_IN_INVESTING_PROCESS));
+			}
+		}
+
+		for(ResultMessage result : results) {
+			investMetrics.countResult(result);
+		}
+		return Arrays.asList(results);
+	}
+
+	/*****************************************************************************/
+
+	// 한 상품에 대한 항목들을 검증, 확보, 저장하고 항목별 결과를 채운다.(트랜잭션 안에서 수행)
+	private void investToProduct(final int PRODUCT_ID, List<Integer> indexes, List<InvestEntry> ENTRIES, Map<Integer, User> users, ResultMessage[] results) {
+		final Product product = investMetrics.record(InvestMetrics.LOOKUP, () -> productRepo.findById(PRODUCT_ID).orElse(null));	// 2차 Cache 조회
+		final List<Integer> candidates = new ArrayList<>(indexes.size());
+
+		// [예외] 투자 금액, 유저, 상품 모집기간 검증 (존재하지 않는 상품은 MISMATCHED_PRODUCT_ID)
+		for(int index : indexes) {
+			final InvestEntry entry = ENTRIES.get(index);
+			final Message invalidReason = product == null ? Message.MISMATCHED_PRODUCT_ID : InvestServiceImpl.invalidReasonOf(users.get(entry.getUserId()), product, entry.getInvestingAmount());
+
+			if(invalidReason != null) {
+				results[index] = ResultMessage.of(invalidReason);
+			} else {
+				candidates.add(index);
+			}
+		}
+		if(candidates.isEmpty()) {
+			return;
+		}
+
+		// 투자 가능 금액 확보 (rollback 시 자동 반환)
+		final boolean[] accepted = new boolean[candidates.size()];
+		int remainingAmount = reserve(product, candidates, ENTRIES, accepted);	// 확보 시점의 투자 가능 금액
+
+		final List<InvestOrder> orders = new ArrayList<>(candidates.size());
+		for(int i = 0; i < candidates.size(); i++) {
+			final int index = candidates.get(i);
+			final int INVESTING_AMOUNT = ENTRIES.get(index).getInvestingAmount();
+
+			if(accepted[i]) {
+				orders.add(InvestOrder.of(users.get(ENTRIES.get(index).getUserId()), product, INVESTING_AMOUNT, remainingAmount));
+				remainingAmount -= INVESTING_AMOUNT;	// 투자 가능 금액 차감
+				results[index] = InvestServiceImpl.afterCompleted(product, INVESTING_AMOUNT, remainingAmount);
+			} else if(remainingAmount == ZERO) {
+				results[index] = ResultMessage.of(Message.WAS_SOLD_OUT);		// 결과 세팅 : 매진된 상태
+			} else {
+				results[index] = InvestResult.overflowed(product, remainingAmount);	// 결과 세팅 : 투자가능 금액 초과
+			}
+		}
+
+		// [예외] 확보한 주문이 없는 경우
+		if(orders.isEmpty()) {
+			if(remainingAmount == ZERO) {
+				soldOutRegistry.markSoldOutAfterCommit(PRODUCT_ID); // commit 후 매진 등록
+			}
+			return;
+		}
+
+		investMetrics.recordCommit();
+		investMetrics.record(InvestMetrics.INSERT, () -> saveOrders(PRODUCT_ID, orders));
+
+		productListingCache.evictAfterCommit(); // commit 후 상품 목록 Cache 무효화
+		if(remainingAmount <= ZERO) {
+			soldOutRegistry.markSoldOutAfterCommit(PRODUCT_ID); // commit 후 매진 등록
+		}
+	}
+
+	// 담을 수 있는 주문의 합계로 확보하고, 확보 시점의 투자 가능 금액을 반환한다.(확보한 주문은 accepted에 표시)
+	// 확보 전에는 투자 가능 금액을 알 수 없으므로 전체 합계로 먼저 시도하고, 거절되면 거절 시점의 투자 가능 금액으로 다시 고른다.
+	private int reserve(Product product, List<Integer> candidates, List<InvestEntry> ENTRIES, boolean[] accepted) {
+		int investableAmount = Integer.MAX_VALUE;
+
+		while(true) {
+			final int acceptedAmount = select(candidates, ENTRIES, investableAmount, accepted);
+			if(acceptedAmount == ZERO) {
+				return investableAmount;
+			}
+
+			final CapacityReservation reservation = capacityGuard.reserve(product, acceptedAmount);
+			investableAmount = reservation.getInvestableAmount();
+
+			if(reservation.isReserved()) {
+				return investableAmount;
+			}
+		}
+	}
+
+	// 요청 순서대로 투자 가능 금액 이내의 주문을 고르고, 고른 금액의 합계를 반환한다.(단건 투자를 순서대로 수행한 결과와 같다.)
+	private static int select(List<Integer> candidates, List<InvestEntry> ENTRIES, final int INVESTABLE_AMOUNT, boolean[] accepted) {
+		int remainingAmount = INVESTABLE_AMOUNT;
+
+		for(int i = 0; i < candidates.size(); i++) {
+			final int INVESTING_AMOUNT = ENTRIES.get(candidates.get(i)).getInvestingAmount();
+
+			accepted[i] = INVESTING_AMOUNT <= remainingAmount;
+			if(accepted[i]) {
+				remainingAmount -= INVESTING_AMOUNT;
+			}
+		}
+		return INVESTABLE_AMOUNT - remainingAmount;
+	}
+
+	// JDBC Batch INSERT (hibernate.jdbc.batch_size, hibernate.order_inserts) 후 신규 투자자 수 반영
+	private void saveOrders(final int PRODUCT_ID, List<InvestOrder> orders) {
+		investOrderRepo.saveAll(orders);
+		orders.forEach(order -> eventPublisher.publishEvent(OrderCommittedEvent.of(order)));	// commit 후 투자 통계 반영
+
+		final Set<Integer> investors = new LinkedHashSet<>();
+		orders.forEach(order -> investors.add(order.getUser().getUserId()));
+
+		int newInvestors = ZERO;
+		for(int USER_ID : investors) {
+			newInvestors += productInvestorRepo.insertIfAbsent(PRODUCT_ID, USER_ID);
+		}
+		if(newInvestors > ZERO) {
+			productRepo.addNumberOfInvestors(PRODUCT_ID, newInvestors);
+		}
+	}
+
+	// 요청에 포함된 유저를 1회 조회한다.
+	private Map<Integer, User> findUsers(List<InvestEntry> ENTRIES) {
+		final Set<Integer> userIds = new LinkedHashSet<>();
+		ENTRIES.forEach(entry -> userIds.add(entry.getUserId()));
+
+		final Map<Integer, User> users = new HashMap<>();
+		userRepo.findAllById(userIds).forEach(user -> users.put(user.getUserId(), user));
+		return users;
+	}
+
+	// 상품 ID별 항목 위치 (요청 순서 유지)
+	private static Map<Integer, List<Integer>> groupByProduct(List<InvestEntry> ENTRIES) {
+		final Map<Integer, List<Integer>> products = new LinkedHashMap<>();
+
+		for(int index = 0; index < ENTRIES.size(); index++) {
+			products.computeIfAbsent(ENTRIES.get(index).getProductId(), id -> new ArrayList<>()).add(index);
+		}
+		return products;
+	}
+}
@@ -0,0 +1,15 @@
+package com.assets.invest.service;
+
+import com.assets.invest.domain.Product;
+
+/**
+ * @title : 상품 투자 가능 금액 확보 전략
+ * @content :
+ * invest.admission.mode 설정으로 선택한다.
+ * - local    : 상품 단위 Lock + In-Memory 원장 + DB 조건부 UPDATE (단일 인스턴스 처리량 우선)
+ * - database : DB 조건부 UPDATE 단독 (JVM Lock 없이 다수 인스턴스에서 정합성 보장)
+ * 확보된 금액은 현재 트랜잭션이 rollback되면 반환된다.
+ */
+public interface CapacityGuard {
+	CapacityReservation reserve(Product product, int investingAmount);
+}
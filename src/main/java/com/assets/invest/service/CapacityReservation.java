@@ -0,0 +1,25 @@
+package com.assets.invest.service;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 투자 가능 금액 확보 결과
+@Getter
+@ToString
+public class CapacityReservation {
+	private final boolean reserved;			// 확보 여부
+	private final int investableAmount;		// 확보 시도 시점의 투자 가능 금액
+
+	private CapacityReservation(boolean reserved, int investableAmount) {
+		this.reserved = reserved;
+		this.investableAmount = investableAmount;
+	}
+
+	public static CapacityReservation reserved(int investableAmount) {
+		return new CapacityReservation(Boolean.TRUE, investableAmount);
+	}
+
+	public static CapacityReservation rejected(int investableAmount) {
+		return new CapacityReservation(Boolean.FALSE, investableAmount);
+	}
+}
@@ -0,0 +1,42 @@
+package com.assets.invest.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.persistence.ProductRepository;
+
+/**
+ * @title : DB 조건부 UPDATE 기반 투자 금액 확보
+ * @content :
+ * 1. 모집 한도 내에서만 누적 투자 금액을 증가시키는 단일 UPDATE로 확보한다.
+ * 2. UPDATE가 상품 Row Lock을 commit까지 점유하므로, 다수 인스턴스의 동일 상품 투자가 DB에서 직렬화된다.
+ * 3. 확보 후의 잔액은 Lock을 점유한 상태에서 조회하므로 정확하다.
+ */
+@Component
+@ConditionalOnProperty(name="invest.admission.mode", havingValue="database")
+public class DatabaseCapacityGuard implements CapacityGuard {
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestMetrics investMetrics;
+
+	// Row Lock 대기가 조건부 UPDATE 안에서 발생하므로, 확보 단계 전체를 reserve로 기록한다.
+	@Override
+	public CapacityReservation reserve(Product product, final int INVESTING_AMOUNT) {
+		return investMetrics.record(InvestMetrics.RESERVE, () -> reserveInDatabase(product, INVESTING_AMOUNT));
+	}
+
+	private CapacityReservation reserveInDatabase(Product product, final int INVESTING_AMOUNT) {
+		final int PRODUCT_ID = product.getProductId();
+
+		if(productRepo.addInvestedAmount(PRODUCT_ID, INVESTING_AMOUNT) == 0) {
+			return CapacityReservation.rejected(productRepo.findRemainingAmount(PRODUCT_ID));
+		}
+
+		return CapacityReservation.reserved(productRepo.findRemainingAmount(PRODUCT_ID) + INVESTING_AMOUNT);
+	}
+}
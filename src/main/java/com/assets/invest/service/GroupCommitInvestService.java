@@ -0,0 +1,225 @@
+package com.assets.invest.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestPage;
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.InvestResult;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : Group Commit 투자 서비스 (invest.order.write-mode=group-commit)
+ * @content :
+ * 1. 투자 가능 금액은 In-Memory 원장에서 예약하고, 주문 저장은 GroupCommitOrderWriter에 맡긴다.
+ * 2. 요청 Thread는 DB Connection/Lock을 점유하지 않은 채로 batch의 commit을 기다린다.
+ * 3. 조회 API는 InvestServiceImpl에 위임한다.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name="invest.order.write-mode", havingValue="group-commit")
+public class GroupCommitInvestService implements InvestService {
+	static final int ZERO = 0;
+
+	@Autowired
+	private InvestServiceImpl investService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private ProductCapacityLedger capacityLedger;
+
+	@Autowired
+	private GroupCommitOrderWriter orderWriter;
+
+	@Autowired
+	private InvestExecutor investExecutor;
+
+	@Autowired
+	private ProductAdmission productAdmission;
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+	@Autowired
+	private InvestMetrics investMetrics;
+
+	@Value("${invest.order.group-commit.timeout:10s}")
+	private Duration timeout;
+
+	@Override
+	public List<InvestResponse> getAllProducts() {
+		return investService.getAllProducts();
+	}
+
+	@Override
+	public InvestPage getProductsAfter(final int LAST_PRODUCT_ID, final int PAGE_SIZE) {
+		return investService.getProductsAfter(LAST_PRODUCT_ID, PAGE_SIZE);
+	}
+
+	/**
+	 * @title : 특정 상품에 투자하기 (Group Commit)
+	 * @content :
+	 * 1. Validation 체크를 수행한다.
+	 * 2. In-Memory 원장에서 투자 가능 금액을 예약한다.
+	 * 3. 주문을 Group Commit Queue에 등록하고, commit 결과를 기다린다.
+	 * 4. 조건부 UPDATE에서 거절되면(다른 인스턴스의 투자 등으로 원장과 DB가 불일치) DB 기준 투자 가능 금액으로
+ *    OVERFLOW_INVESTABLE_AMOUNT/WAS_SOLD_OUT을 반환하고, ERROR_IN_INVESTING_PROCESS는 트랜잭션 실패에만 반환한다.
+ * (거절/실패 시 원장을 비워 다음 투자 시 DB 기준으로 다시 적재한다.)
+	 *
+	 * @param USER_ID : 유저 ID
+	 * @param PRODUCT_ID : 상품 ID
+	 * @param INVESTING_AMOUNT : 투자할 금액
+	 * @return 투자 결과 상태메시지
+	 */
+	@Override
+	public ResultMessage investToProduct(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
+		return resultOf(reserveAndSubmit(USER_ID, PRODUCT_ID, INVESTING_AMOUNT), PRODUCT_ID);
+	}
+
+	/**
+	 * @title : 특정 상품에 투자하기 (Group Commit, 비동기)
+	 * @content :
+	 * 상품별 입장 제어(ProductAdmission)를 통과한 요청의 검증/예약/Queue 등록만 투자 전용 Thread Pool에서 수행하고,
+	 * commit 결과는 Thread를 점유하지 않고 기다린다.
+	 * (commit 대기 시간은 Spring MVC 비동기 요청 timeout으로 제한된다.)
+	 *
+	 * @param USER_ID : 유저 ID
+	 * @param PRODUCT_ID : 상품 ID
+	 * @param INVESTING_AMOUNT : 투자할 금액
+	 * @return 투자 결과 상태메시지
+	 */
+	@Override
+	public CompletableFuture<ResultMessage> investToProductAsync(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
+		// [예외] 매진 등록된 상품의 경우 (Thread Pool 전환 없음)
+		if(INVESTING_AMOUNT > ZERO && soldOutRegistry.isSoldOut(PRODUCT_ID)) {
+			return investMetrics.countResult(CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT)));
+		}
+		return investMetrics.countResult(productAdmission.admit(PRODUCT_ID, () ->
+				investExecutor.supplyAsync(() -> reserveAndSubmit(USER_ID, PRODUCT_ID, INVESTING_AMOUNT)).thenCompose(Function.identity())));
+	}
+
+	@Override
+	public List<InvestResponse> getAllInvestedProducts(final int USER_ID) {
+		return investService.getAllInvestedProducts(USER_ID);
+	}
+
+	@Override
+	public InvestPage getInvestedProductsAfter(final int USER_ID, final int LAST_PRODUCT_ID, final int PAGE_SIZE) {
+		return investService.getInvestedProductsAfter(USER_ID, LAST_PRODUCT_ID, PAGE_SIZE);
+	}
+
+	/*****************************************************************************/
+
+	// 검증, 투자 가능 금액 예약 후 Queue에 등록하고 commit 결과를 반환한다.(commit 완료를 기다리지 않음)
+	private CompletableFuture<ResultMessage> reserveAndSubmit(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
+		// [예외] 매진 등록된 상품의 경우 (DB 조회 없음)
+		if(INVESTING_AMOUNT > ZERO && soldOutRegistry.isSoldOut(PRODUCT_ID)) {
+			return CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT));
+		}
+
+		final long lookupStartedAt = System.nanoTime();
+		final User user = userRepo.findById(USER_ID).orElse(null);				// 2차 Cache 조회
+		final Product product = productRepo.findById(PRODUCT_ID).orElse(null);	// 2차 Cache 조회
+		investMetrics.record(InvestMetrics.LOOKUP, System.nanoTime() - lookupStartedAt);
+
+		// [예외] 투자 금액, 유저, 상품 모집기간 검증
+		final Message invalidReason = InvestServiceImpl.invalidReasonOf(user, product, INVESTING_AMOUNT);
+		if(invalidReason != null) {
+			return CompletableFuture.completedFuture(ResultMessage.of(invalidReason));
+		}
+
+		final int remainingAmount = investMetrics.record(InvestMetrics.RESERVE, () -> capacityLedger.tryReserve(product, INVESTING_AMOUNT));	// 예약 시점의 투자 가능 금액
+
+		// [예외] SOLD_OUT된 상품의 경우 (원장에는 commit 전의 예약이 포함되므로 매진 등록은 commit 결과로만 한다.)
+		if(remainingAmount == ZERO) {
+			return CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT));
+		}
+		// [예외] 투자가능 금액을 초과한 경우
+		if(remainingAmount < INVESTING_AMOUNT) {
+			return CompletableFuture.completedFuture(InvestResult.overflowed(product, remainingAmount));
+		}
+
+		final InvestOrder order = InvestOrder.of(user, product, INVESTING_AMOUNT, remainingAmount);
+		final long submittedAt = System.nanoTime();
+
+		return orderWriter.submit(order).thenApply(written -> {
+			investMetrics.record(InvestMetrics.COMMIT, System.nanoTime() - submittedAt);	// Queue 대기 + batch INSERT/commit
+
+			switch(written.getStatus()) {
+				case COMMITTED:
+					return committed(product, INVESTING_AMOUNT, remainingAmount - INVESTING_AMOUNT);
+				case REJECTED:
+					return rejected(product, written.getRemainingAmount());
+				default:
+					return failed(PRODUCT_ID);
+			}
+		});
+	}
+
+	// commit 성공 시 결과 메시지를 반환한다.(매진 시 매진 등록)
+	private ResultMessage committed(Product product, final int INVESTING_AMOUNT, final int REMAINING_INVESTABLE_AMOUNT) {
+		if(REMAINING_INVESTABLE_AMOUNT <= ZERO) {
+			soldOutRegistry.markSoldOut(product.getProductId());
+		}
+		return InvestServiceImpl.afterCompleted(product, INVESTING_AMOUNT, REMAINING_INVESTABLE_AMOUNT);
+	}
+
+	// 조건부 UPDATE에서 거절된 경우(원장과 DB 불일치) 원장을 비우고, DB 기준 투자 가능 금액으로 결과 메시지를 반환한다.
+	// (DB 기준 투자 가능 금액은 commit 후에 전달되므로, 0이면 바로 매진 등록한다.)
+	private ResultMessage rejected(Product product, final int REMAINING_INVESTABLE_AMOUNT) {
+		capacityLedger.evict(product.getProductId());
+
+		// [예외] SOLD_OUT된 상품의 경우
+		if(REMAINING_INVESTABLE_AMOUNT <= ZERO) {
+			soldOutRegistry.markSoldOut(product.getProductId());
+			return ResultMessage.of(Message.WAS_SOLD_OUT);
+		}
+		return InvestResult.overflowed(product, REMAINING_INVESTABLE_AMOUNT);	// 결과 세팅 : 투자가능 금액 초과
+	}
+
+	// commit 실패 시 원장과 매진 등록을 비우고 오류 메시지를 반환한다.
+	private ResultMessage failed(final int PRODUCT_ID) {
+		capacityLedger.evict(PRODUCT_ID);
+		soldOutRegistry.clear(PRODUCT_ID);
+		return ResultMessage.of(Message.ERROR_IN_INVESTING_PROCESS);
+	}
+
+	// commit 결과 대기 (timeout 시 실패로 처리하나, 해당 batch는 이후에 commit될 수 있다.)
+	private ResultMessage resultOf(Future<ResultMessage> result, final int PRODUCT_ID) {
+		try {
+			return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return failed(PRODUCT_ID);
+		} catch(ExecutionException | TimeoutException e) {
+			log.warn("투자 주문 commit 대기 실패", e);
+			return failed(PRODUCT_ID);
+		}
+	}
+}
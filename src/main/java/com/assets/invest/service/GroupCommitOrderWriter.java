@@ -0,0 +1,298 @@
+package com.assets.invest.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductInvestorRepository;
+import com.assets.invest.persistence.ProductRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : 투자 주문 Group Commit
+ * @content :
+ * 1. 투자 가능 금액을 예약한 주문을 Queue에 쌓고, 1개의 Thread가 batch-size 또는 linger 시간 단위로 꺼낸다.
+ * 2. 꺼낸 주문들은 1개의 트랜잭션에서 상품별 조건부 UPDATE 1회, JDBC Batch INSERT, 신규 투자자 등록 후 commit된다.
+ * 3. 주문별 결과(CompletableFuture)는 commit이 끝난 후에 완료된다.
+ *    - COMMITTED : 저장됨
+ *    - REJECTED : 조건부 UPDATE에서 모집 한도를 넘어 거절됨 (DB 기준 투자 가능 금액 포함, 원장과 DB가 어긋난 경우)
+ *    - FAILED : 트랜잭션 실패, Queue가 가득 찼거나 종료 중 (batch의 주문 모두)
+ * 4. Queue에 쌓인 주문 수를 invest.order.group-commit.queued Gauge로 제공한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name="invest.order.write-mode", havingValue="group-commit")
+public class GroupCommitOrderWriter {
+	static final int ZERO = 0;
+	static final long IDLE_POLL_MILLIS = 100L;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+	@Autowired
+	private ProductListingCache productListingCache;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Value("${invest.order.group-commit.batch-size:100}")
+	private int batchSize;
+
+	@Value("${invest.order.group-commit.linger:2ms}")
+	private Duration linger;
+
+	@Value("${invest.order.group-commit.queue-capacity:10000}")
+	private int queueCapacity;
+
+	private BlockingQueue<PendingOrder> queue;
+	private TransactionTemplate transactionTemplate;
+	private Thread flusher;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		running = true;
+
+		Gauge.builder("invest.order.group-commit.queued", queue, BlockingQueue::size)
+			.description("Group Commit Queue에 쌓인 투자 주문 수")
+			.register(meterRegistry);
+
+		flusher = new Thread(this::flushContinuously, "invest-group-commit");
+		flusher.setDaemon(true);
+		flusher.start();
+	}
+
+	// Queue에 남은 주문까지 처리한 후 종료한다.
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		flusher.join(TimeUnit.SECONDS.toMillis(10));
+	}
+
+	/**
+	 * @title : 투자 주문 등록
+	 *
+	 * @param order : 투자 가능 금액을 예약한 주문
+	 * @return commit 결과 (Queue가 가득 찼거나 종료 중이면 즉시 FAILED)
+	 */
+	public CompletableFuture<WriteResult> submit(InvestOrder order) {
+		final PendingOrder pending = new PendingOrder(order);
+
+		if(! running || ! queue.offer(pending)) {
+			pending.result.complete(WriteResult.FAILED);
+		}
+		return pending.result;
+	}
+
+	/*****************************************************************************/
+
+	private void flushContinuously() {
+		final List<PendingOrder> batch = new ArrayList<>(batchSize);
+
+		while(running || ! queue.isEmpty()) {
+			try {
+				final PendingOrder first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if(first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				drainWithinLinger(batch);
+				flush(batch);
+			} catch(InterruptedException e) {
+				batch.forEach(pending -> pending.result.complete(WriteResult.FAILED));
+				Thread.currentThread().interrupt();
+				break;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	// batch-size가 찰 때까지 linger 시간 동안 주문을 더 모은다.
+	private void drainWithinLinger(List<PendingOrder> batch) throws InterruptedException {
+		final long deadline = System.nanoTime() + linger.toNanos();
+
+		while(batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+
+			final long remainingNanos = deadline - System.nanoTime();
+			if(batch.size() >= batchSize || remainingNanos <= ZERO) {
+				return;
+			}
+
+			final PendingOrder next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+			if(next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	// 1개의 트랜잭션으로 저장하고, commit 후 주문별 결과를 완료한다.
+	private void flush(List<PendingOrder> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> write(batch));
+		} catch(RuntimeException e) {
+			log.error("투자 주문 Group Commit 실패 : {}건", batch.size(), e);
+			batch.forEach(pending -> pending.result.complete(WriteResult.FAILED));
+			return;
+		}
+
+		productListingCache.evict();
+		batch.forEach(pending -> pending.result.complete(pending.accepted ? WriteResult.COMMITTED : WriteResult.rejected(pending.remainingAmount)));
+	}
+
+	private void write(List<PendingOrder> batch) {
+		final List<InvestOrder> acceptedOrders = new ArrayList<>(batch.size());
+
+		// 1. 상품별 투자 금액 확보 (모집 한도를 넘으면 주문 단위로 다시 확보)
+		for(Map.Entry<Integer, List<PendingOrder>> product : groupByProduct(batch).entrySet()) {
+			final int PRODUCT_ID = product.getKey();
+			final List<PendingOrder> orders = product.getValue();
+
+			if(addInvestedAmount(PRODUCT_ID, sumInvestingAmount(orders))) {
+				orders.forEach(pending -> pending.accepted = true);
+				continue;
+			}
+
+			orders.forEach(pending -> pending.accepted = addInvestedAmount(PRODUCT_ID, pending.order.getInvestingAmount()));
+
+			// 거절된 주문에는 DB 기준 투자 가능 금액을 전달한다.
+			if(orders.stream().anyMatch(pending -> ! pending.accepted)) {
+				final int remainingAmount = productRepo.findRemainingAmount(PRODUCT_ID);
+				orders.forEach(pending -> pending.remainingAmount = remainingAmount);
+			}
+		}
+
+		for(PendingOrder pending : batch) {
+			if(pending.accepted) {
+				acceptedOrders.add(pending.order);
+			}
+		}
+
+		// 2. JDBC Batch INSERT (hibernate.jdbc.batch_size, hibernate.order_inserts)
+		investOrderRepo.saveAll(acceptedOrders);
+		acceptedOrders.forEach(order -> eventPublisher.publishEvent(OrderCommittedEvent.of(order)));	// commit 후 투자 통계 반영
+
+		// 3. 상품의 신규 투자자인 경우 투자자 수 증가
+		for(long investor : distinctInvestors(acceptedOrders)) {
+			final int PRODUCT_ID = (int) (investor >>> Integer.SIZE);
+			final int USER_ID = (int) investor;
+
+			if(productInvestorRepo.insertIfAbsent(PRODUCT_ID, USER_ID) > ZERO) {
+				productRepo.increaseNumberOfInvestors(PRODUCT_ID);
+			}
+		}
+	}
+
+	private boolean addInvestedAmount(final int PRODUCT_ID, final long INVESTING_AMOUNT) {
+		return INVESTING_AMOUNT <= Integer.MAX_VALUE && productRepo.addInvestedAmount(PRODUCT_ID, (int) INVESTING_AMOUNT) > ZERO;
+	}
+
+	private static Map<Integer, List<PendingOrder>> groupByProduct(List<PendingOrder> batch) {
+		final Map<Integer, List<PendingOrder>> products = new LinkedHashMap<>();
+
+		for(PendingOrder pending : batch) {
+			products.computeIfAbsent(pending.order.getProduct().getProductId(), id -> new ArrayList<>()).add(pending);
+		}
+		return products;
+	}
+
+	private static long sumInvestingAmount(List<PendingOrder> orders) {
+		long sum = 0;
+		for(PendingOrder pending : orders) {
+			sum += pending.order.getInvestingAmount();
+		}
+		return sum;
+	}
+
+	// (상품 ID, 유저 ID) 중복 제거 (상위 32bit : 상품 ID, 하위 32bit : 유저 ID)
+	private static Set<Long> distinctInvestors(List<InvestOrder> orders) {
+		final Set<Long> investors = new LinkedHashSet<>();
+
+		for(InvestOrder order : orders) {
+			investors.add(((long) order.getProduct().getProductId() << Integer.SIZE) | (order.getUser().getUserId() & 0xFFFFFFFFL));
+		}
+		return investors;
+	}
+
+	// 주문별 Group Commit 결과
+	static class WriteResult {
+		static final WriteResult COMMITTED = new WriteResult(Status.COMMITTED, 0);
+		static final WriteResult FAILED = new WriteResult(Status.FAILED, 0);
+
+		enum Status {COMMITTED, REJECTED, FAILED}
+
+		private final Status status;
+		private final int remainingAmount;	// REJECTED : DB 기준 투자 가능 금액
+
+		private WriteResult(Status status, int remainingAmount) {
+			this.status = status;
+			this.remainingAmount = remainingAmount;
+		}
+
+		static WriteResult rejected(int remainingAmount) {
+			return new WriteResult(Status.REJECTED, remainingAmount);
+		}
+
+		Status getStatus() {
+			return status;
+		}
+
+		int getRemainingAmount() {
+			return remainingAmount;
+		}
+	}
+
+	// Queue에 대기 중인 주문과 commit 결과
+	static class PendingOrder {
+		private final InvestOrder order;
+		private final CompletableFuture<WriteResult> result = new CompletableFuture<>();
+		private boolean accepted;
+		private int remainingAmount;
+
+		PendingOrder(InvestOrder order) {
+			this.order = order;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.assets.invest.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * @title : 투자 요청 전용 Thread Pool
+ * @content :
+ * 1. 투자하기 요청을 Tomcat Worker Thread가 아닌 고정 크기(invest.order.executor.pool-size)의 Thread에서 수행한다.
+ *    (상품 오픈 시 Lock 대기가 몰려도 Worker Thread는 반환되어 조회 API가 밀리지 않는다.)
+ * 2. 대기열(invest.order.executor.queue-capacity)이 가득 차면 TaskRejectedException으로 즉시 거절한다.
+ * 3. Executor Bean으로 등록하지 않는다.(Spring MVC 비동기 응답용 applicationTaskExecutor 자동 설정을 유지)
+ * 4. 수행 중/대기 중인 요청 수를 invest.executor.active/queued Gauge로 제공한다.
+ */
+@Component
+public class InvestExecutor implements MeterBinder {
+	static final String THREAD_NAME_PREFIX = "invest-";
+
+	@Value("${invest.order.executor.pool-size:10}")
+	private int poolSize;
+
+	@Value("${invest.order.executor.queue-capacity:1000}")
+	private int queueCapacity;
+
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	public void start() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+	}
+
+	// 대기 중인 요청까지 처리한 후 종료한다.
+	@PreDestroy
+	public void stop() {
+		executor.shutdown();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("invest.executor.active", this, investExecutor -> investExecutor.executor.getActiveCount())
+			.description("수행 중인 투자 요청 수")
+			.register(registry);
+		Gauge.builder("invest.executor.queued", this, investExecutor -> investExecutor.executor.getThreadPoolExecutor().getQueue().size())
+			.description("Thread Pool 대기열의 투자 요청 수")
+			.register(registry);
+	}
+
+	/**
+	 * @title : 투자 요청 실행
+	 *
+	 * @param task : 투자 요청
+	 * @return 투자 결과 (대기열이 가득 차면 TaskRejectedException 발생)
+	 */
+	public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, executor);
+	}
+}
@@ -0,0 +1,145 @@
+package com.assets.invest.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.assets.invest.dto.ResultMessage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * @title : 투자하기 Metric
+ * @content :
+ * 1. invest.phase : 투자 단계별 소요 시간 (phase = lookup, lock-wait, reserve, insert, commit)
+ *    Prometheus Histogram과 p50/p95/p99(HdrHistogram 기반)를 함께 기록한다.
+ * 2. invest.result : 투자 결과 건수 (code = 결과 코드, exception = 예외로 끝난 경우의 예외 이름)
+ * 3. 단계별 Timer는 생성 시 등록하고, 결과 Counter는 결과 코드/예외 Class별로 1회만 등록하여 재사용한다.
+ * 4. Lock/대기열 Gauge는 각 Component(ProductLockRegistry, ProductAdmission 등)가 직접 등록한다.
+ */
+@Component
+public class InvestMetrics {
+	static final String PHASE_TIMER = "invest.phase";
+	static final String RESULT_COUNTER = "invest.result";
+	static final String NONE = "none";
+
+	public static final String LOOKUP = "lookup";
+	public static final String LOCK_WAIT = "lock-wait";
+	public static final String RESERVE = "reserve";
+	public static final String INSERT = "insert";
+	public static final String COMMIT = "commit";
+	static final List<String> PHASES = Arrays.asList(LOOKUP, LOCK_WAIT, RESERVE, INSERT, COMMIT);
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> phaseTimers;
+	private final ConcurrentMap<String, Counter> resultCounters = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<?>, Counter> exceptionCounters = new ConcurrentHashMap<>();
+
+	@Autowired
+	public InvestMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+
+		final Map<String, Timer> timers = new HashMap<>();
+		for(String phase : PHASES) {
+			timers.put(phase, newPhaseTimer(phase));
+		}
+		this.phaseTimers = Collections.unmodifiableMap(timers);
+	}
+
+	// 단계 소요 시간 기록
+	public <T> T record(String phase, Supplier<T> task) {
+		return phaseTimer(phase).record(task);
+	}
+
+	public void record(String phase, Runnable task) {
+		phaseTimer(phase).record(task);
+	}
+
+	public void record(String phase, long elapsedNanos) {
+		phaseTimer(phase).record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	// 현재 트랜잭션의 commit 소요 시간(flush 포함) 기록 (트랜잭션 밖이면 기록하지 않음)
+	public void recordCommit() {
+		if(! TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			private long startedAt;
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				startedAt = System.nanoTime();
+			}
+
+			@Override
+			public void afterCommit() {
+				record(COMMIT, System.nanoTime() - startedAt);
+			}
+		});
+	}
+
+	// 투자 결과가 완료되면 결과 코드(또는 예외)별 건수를 기록한다.
+	public CompletableFuture<ResultMessage> countResult(CompletableFuture<ResultMessage> result) {
+		result.whenComplete((message, error) -> {
+			if(error != null) {
+				exceptionCounters.computeIfAbsent(causeOf(error).getClass(), type -> newResultCounter(NONE, type.getSimpleName())).increment();
+			} else {
+				countResult(message);
+			}
+		});
+		return result;
+	}
+
+	// 결과 코드별 건수를 기록한다.(일괄 투자하기는 항목별로 기록)
+	public void countResult(ResultMessage message) {
+		resultCounters.computeIfAbsent(message.getResultCode(), code -> newResultCounter(code, NONE)).increment();
+	}
+
+	/*****************************************************************************/
+
+	private Timer phaseTimer(String phase) {
+		final Timer timer = phaseTimers.get(phase);
+		if(timer == null) {
+			throw new IllegalArgumentException("등록되지 않은 투자 단계입니다. : " + phase);
+		}
+		return timer;
+	}
+
+	private Timer newPhaseTimer(String phase) {
+		return Timer.builder(PHASE_TIMER)
+				.description("투자 단계별 소요 시간")
+				.tag("phase", phase)
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	private Counter newResultCounter(String code, String exception) {
+		return Counter.builder(RESULT_COUNTER)
+				.description("투자 결과 건수")
+				.tag("code", code)
+				.tag("exception", exception)
+				.register(meterRegistry);
+	}
+
+	private static Throwable causeOf(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+}
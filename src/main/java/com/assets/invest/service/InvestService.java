@@ -1,15 +1,28 @@
 package com.assets.invest.service;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.assets.invest.dto.InvestPage;
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.ResultMessage;
 
 public interface InvestService {
 	// 전체 투자 상품 조회
-	List<Map<String, String>> getAllProducts();
+	List<InvestResponse> getAllProducts();
+	
+	// 전체 투자 상품 페이지 조회 (lastProductId 다음 상품부터)
+	InvestPage getProductsAfter(int lastProductId, int pageSize);
 	
 	// 상품 투자하기
-	Map<String, String> investToProduct(int userId, int productId, int investingAmount);
+	ResultMessage investToProduct(int userId, int productId, int investingAmount);
+	
+	// 상품 투자하기 (비동기, 투자 전용 Thread Pool에서 수행)
+	CompletableFuture<ResultMessage> investToProductAsync(int userId, int productId, int investingAmount);
 	
 	// 나의 투자상품 조회
-	List<Map<String, String>> getAllInvestedProducts(int userId);
+	List<InvestResponse> getAllInvestedProducts(int userId);
+	
+	// 나의 투자상품 페이지 조회 (lastProductId 다음 상품부터)
+	InvestPage getInvestedProductsAfter(int userId, int lastProductId, int pageSize);
 }
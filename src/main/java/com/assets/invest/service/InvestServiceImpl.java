@@ -2,36 +2,39 @@ package com.assets.invest.service;
 
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import javax.transaction.Transactional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.assets.invest.domain.InvestOrder;
-import com.assets.invest.domain.InvestOrders;
 import com.assets.invest.domain.Product;
 import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestPage;
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.InvestResult;
+import com.assets.invest.dto.PortfolioView;
+import com.assets.invest.dto.ProductView;
+import com.assets.invest.dto.ResultMessage;
 import com.assets.invest.enums.Message;
-import com.assets.invest.enums.Status;
-import com.assets.invest.function.ReturnSettable;
 import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.PortfolioSummary;
+import com.assets.invest.persistence.ProductInvestorRepository;
 import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.ProductSummary;
 import com.assets.invest.persistence.UserRepository;
 
 @Service
 public class InvestServiceImpl implements InvestService {
 	static final int ZERO = 0;
-	static final ReturnSettable RETURN_SETTER = (message) -> {
-		Map<String, String> map = new HashMap<>();
-		map.put("RESULT_FLAG"   , message.getMessageResult());
-		map.put("RESULT_CODE"   , message.getMessageCode());
-		map.put("RESULT_MESSAGE", message.getMessageContent());
-		return map;
-	};
+	static final int MIN_PAGE_SIZE = 1;
+	static final int FIRST_PAGE = 0;
 
 	@Autowired
 	private UserRepository userRepo;
@@ -42,11 +45,49 @@ public class InvestServiceImpl implements InvestService {
 	@Autowired
 	private InvestOrderRepository investOrderRepo;
 
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+	@Autowired
+	private CapacityGuard capacityGuard;
+
+	@Autowired
+	private ProductListingCache productListingCache;
+
+	@Autowired
+	private InvestExecutor investExecutor;
+
+	@Autowired
+	private ProductAdmission productAdmission;
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+	@Autowired
+	private InvestMetrics investMetrics;
+
+	@Autowired
+	private InvestStatisticsStore statisticsStore;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Value("${invest.paging.max-size:100}")
+	private int maxPageSize;
+
+	@Value("${invest.statistics.in-memory:false}")
+	private boolean inMemoryStatistics;
+
 	/**
 	 * @title : 판매 중인 전체 상품 정보 조회
 	 * @content : 
 	 * 1. 현재 날짜 기준으로 판매 중인 상품 List를 조회한다.
 	 * 2. 해당 상품들의 각 투자자 수, 모집 한도, 현재 모집 금액, 모집 상태를 구한다.
+	 *    (invest.statistics.in-memory=true이면 투자자 수/현재 모집 금액은 InvestStatisticsStore에서 O(1)로 읽는다.)
+	 * 3. 조회 결과는 ProductListingCache에 보관하며, 투자 commit/TTL/모집 시작·종료 시점에 다시 조회한다.
 	 * 
 	 * @return 현재 투자가능한 상품 목록들
 	 * 
@@ -54,35 +95,72 @@ public class InvestServiceImpl implements InvestService {
 	 * @author Iksoo Shin
 	 */
 	@Override
-	public List<Map<String, String>> getAllProducts() {
-		final List<Product> products = productRepo.findByStartedAtLessThanEqualAndFinishedAtGreaterThanEqual(new Date(), new Date());
-		List<Map<String, String>> validProducts = new ArrayList<>();
+	@Transactional(readOnly = true)
+	public List<InvestResponse> getAllProducts() {
+		return productListingCache.get(this::findAllInvestableProducts);
+	}
+	
+	/**
+	 * @title : 투자 가능한 전체 상품 정보 조회(DB)
+	 * 
+	 * @param CURRENT_DATE : 기준 일시
+	 * @return 기준 일시에 투자가능한 상품 목록들
+	 */
+	private List<InvestResponse> findAllInvestableProducts(final Date CURRENT_DATE) {
+		final List<ProductSummary> products = productRepo.findAllInvestableSummaries(CURRENT_DATE);
+		List<InvestResponse> validProducts = new ArrayList<>(products.size());
 		
-		for(Product product : products) {
-			final InvestOrders orders = new InvestOrders(product.getInvestOrders());
-			
-			final int numberOfInvestors	= orders.numberOfInvestors(product);			// 총 투자자 수
-			final int sumInvestedAmount	= orders.sumInvestedAmountByProduct(product);	// 현재 모집 금액
-			final Status status = product.nowFullAmount() ? Status.COMPLETED : Status.INVESTING; // 모집 상태
-			
-			product.setCurrentStatus(numberOfInvestors, sumInvestedAmount, status);
-			validProducts.add(product.convertToMapForView());
+		// 투자자 수, 현재 모집 금액은 투자 시점에 누적된 값을 사용한다.(모집 상태는 Projection에서 계산)
+		for(ProductSummary product : products) {
+			validProducts.add(ProductView.from(inMemoryStatistics ? statisticsStore.withStatistics(product) : product));
 		}
 		
 		// [예외] 투자가능한 상품이 없을 경우
 		if(validProducts.size() == ZERO) {
-			validProducts.add(RETURN_SETTER.returnSet(Message.NOT_INVESTABLE_PRODUCT));
+			validProducts.add(ResultMessage.of(Message.NOT_INVESTABLE_PRODUCT));
 		}
 		
 		return validProducts;
 	}
 	
+	/**
+	 * @title : 판매 중인 상품 정보 페이지 조회
+	 * @content : 
+	 * 1. 현재 날짜 기준으로 판매 중인 상품 중, LAST_PRODUCT_ID 다음 상품부터 PAGE_SIZE 만큼 조회한다.(productId > ?, OFFSET 없음)
+	 * 2. PAGE_SIZE는 1 ~ invest.paging.max-size 범위로 보정한다.
+	 * 3. 첫 페이지에 투자가능한 상품이 없으면 결과 메시지를 반환한다.
+	 * 
+	 * @param LAST_PRODUCT_ID : 이전 페이지의 마지막 상품 ID (첫 페이지는 0)
+	 * @param PAGE_SIZE : 페이지 크기
+	 * @return 상품 목록과 다음 페이지 조회용 마지막 상품 ID
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public InvestPage getProductsAfter(final int LAST_PRODUCT_ID, final int PAGE_SIZE) {
+		final int pageSize = pageSizeOf(PAGE_SIZE);
+		final List<ProductSummary> products = productRepo.findInvestableSummariesAfter(new Date(), LAST_PRODUCT_ID, PageRequest.of(FIRST_PAGE, pageSize));
+		List<InvestResponse> validProducts = new ArrayList<>(products.size());
+		
+		for(ProductSummary product : products) {
+			validProducts.add(ProductView.from(product));
+		}
+		
+		// [예외] 투자가능한 상품이 없을 경우
+		if(validProducts.size() == ZERO && LAST_PRODUCT_ID <= ZERO) {
+			validProducts.add(ResultMessage.of(Message.NOT_INVESTABLE_PRODUCT));
+		}
+		
+		return InvestPage.of(validProducts, products.size() == pageSize ? products.get(pageSize - 1).getProductId() : null);
+	}
+	
 	/**
 	 * @title : 특정 상품에 투자하기
 	 * @content : 
-	 * 1. Validation 체크를 수행한다.
+	 * 1. Validation 체크를 수행한다.(매진 등록된 상품은 유저/상품 조회 없이 WAS_SOLD_OUT 반환)
 	 * 2. 해당 상품의 현재 모집된 금액, 투자가능 잔액을 조회한다.
 	 * 3. 투자할 금액이 투자가능 잔액보다 작다면 투자한다.
+	 * 4. 매진이 확인되면 현재 트랜잭션이 commit된 후 SoldOutRegistry에 등록한다.
+	 * 5. 조회/확보/저장/commit 단계별 소요 시간을 InvestMetrics에 기록한다.(Lock 대기는 CapacityGuard에서 기록)
 	 * 
 	 * @param USER_ID : 유저 ID
 	 * @param PRODUCT_ID : 상품 ID
@@ -94,62 +172,82 @@ public class InvestServiceImpl implements InvestService {
 	 */
 	@Override
 	@Transactional
-	public Map<String, String> investToProduct(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
-		final User user = userRepo.findByUserId(USER_ID);
-		final Product product = productRepo.findByProductId(PRODUCT_ID);
+	public ResultMessage investToProduct(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
+		// [예외] 매진 등록된 상품의 경우 (DB 조회 없음)
+		if(INVESTING_AMOUNT > ZERO && soldOutRegistry.isSoldOut(PRODUCT_ID)) {
+			return ResultMessage.of(Message.WAS_SOLD_OUT);
+		}
 		
-		// [예외] 투자 금액 0원 이하일 경우
-		if(INVESTING_AMOUNT <= ZERO) {
-			return RETURN_SETTER.returnSet(Message.INVESTING_AMOUNT_LESS_THAN_ZERO);
-		}		
-		// [예외] Header Parameter로 User정보를 못 받은 경우
-		if(user == null) {
-			return RETURN_SETTER.returnSet(Message.NOT_EXISTS_USER_ID);
-		}		
-		// [예외] 상품 코드가 잘못되거나 모집기간이 아닌 경우
-		if(! product.nowInvestableDate()) {
-			return RETURN_SETTER.returnSet(Message.MISMATCHED_PRODUCT_ID);
+		final long lookupStartedAt = System.nanoTime();
+		final User user = userRepo.findById(USER_ID).orElse(null);				// 2차 Cache 조회
+		final Product product = productRepo.findById(PRODUCT_ID).orElse(null);	// 2차 Cache 조회
+		investMetrics.record(InvestMetrics.LOOKUP, System.nanoTime() - lookupStartedAt);
+		
+		// [예외] 투자 금액, 유저, 상품 모집기간 검증
+		final Message invalidReason = invalidReasonOf(user, product, INVESTING_AMOUNT);
+		if(invalidReason != null) {
+			return ResultMessage.of(invalidReason);
 		}
 		
 		int remainingAmount = ZERO;				// 현재 투자 가능 금액
-		boolean isCompleted = Boolean.FALSE;	// 투자 완료 여부
-		
-		// 투자를 실행하는 부분으로 동기화 처리함
-		synchronized(this) {
-			final InvestOrders orders = new InvestOrders(product.getInvestOrders());
-			remainingAmount = orders.investableAmount(product);	// 현재 투자 가능 금액
-			
-			// [예외] SOLD_OUT된 상품의 경우
-			if(remainingAmount == ZERO) {
-				return RETURN_SETTER.returnSet(Message.WAS_SOLD_OUT); // 결과 세팅 : 매진된 상태
-			}
-			
-			// 입력 금액의 투자가능 여부 확인
-			if(remainingAmount >= INVESTING_AMOUNT) {
-				isCompleted = doInvest(user, product, INVESTING_AMOUNT);	// 투자 실행
-				remainingAmount -= INVESTING_AMOUNT; 						// 투자 가능 금액 차감
-			} else {
-				Map<String, String> resultMap = RETURN_SETTER.returnSet(Message.OVERFLOW_INVESTABLE_AMOUNT); // 결과 세팅 : 투자가능 금액 초과
-				resultMap.put("RESULT_MESSAGE", "[" + product.getProductNm() + "]상품의 투자가능 금액이 초과하였습니다.<br>현재 투자가능 금액: " + remainingAmount);
-				resultMap.put("RESULT_INVESTABLE_AMOUNT", Integer.toString(remainingAmount));
-				return resultMap;
-			}
+		
+		// 투자 가능 금액 확보(invest.admission.mode 설정에 따른 동시성 제어, rollback 시 자동 반환)
+		final CapacityReservation reservation = capacityGuard.reserve(product, INVESTING_AMOUNT);
+		remainingAmount = reservation.getInvestableAmount();	// 확보 시점의 투자 가능 금액
+		
+		// [예외] SOLD_OUT된 상품의 경우
+		if(remainingAmount == ZERO) {
+			soldOutRegistry.markSoldOutAfterCommit(PRODUCT_ID); // commit 후 매진 등록 (매진시킨 투자가 rollback되면 등록하지 않음)
+			return ResultMessage.of(Message.WAS_SOLD_OUT); // 결과 세팅 : 매진된 상태
 		}
 		
-		// 투자완료 후, 리턴 값 세팅
-		if(isCompleted) {
-			return afterCompleted(product, INVESTING_AMOUNT, remainingAmount);
+		// 입력 금액의 투자가능 여부 확인
+		if(reservation.isReserved()) {
+			final int investableAmount = remainingAmount;
+			investMetrics.recordCommit();
+			investMetrics.record(InvestMetrics.INSERT, () -> doInvest(user, product, INVESTING_AMOUNT, investableAmount));	// 투자 실행(저장 실패 시 예외 발생 → rollback, 예약금 환불)
+			remainingAmount -= INVESTING_AMOUNT; 						// 투자 가능 금액 차감
 		} else {
-			return RETURN_SETTER.returnSet(Message.ERROR_IN_INVESTING_PROCESS);
+			return InvestResult.overflowed(product, remainingAmount); // 결과 세팅 : 투자가능 금액 초과
+		}
+		
+		// 투자완료 후, 리턴 값 세팅
+		productListingCache.evictAfterCommit(); // commit 후 상품 목록 Cache 무효화
+		if(remainingAmount <= ZERO) {
+			soldOutRegistry.markSoldOutAfterCommit(PRODUCT_ID); // commit 후 매진 등록
+		}
+		return afterCompleted(product, INVESTING_AMOUNT, remainingAmount);
+	}
+
+	/**
+	 * @title : 특정 상품에 투자하기 (비동기)
+	 * @content : 
+	 * 1. 상품별 입장 제어(ProductAdmission)를 통과한 요청만 수행하고, 대기열이 가득 찬 경우 즉시 거절한다.
+	 * 2. 투자 전용 Thread Pool(InvestExecutor)에서 트랜잭션을 시작하여 investToProduct를 수행한다.
+	 * (요청 Thread는 Lock 대기/DB 처리 동안 점유되지 않는다.)
+	 * 
+	 * @param USER_ID : 유저 ID
+	 * @param PRODUCT_ID : 상품 ID
+	 * @param INVESTING_AMOUNT : 투자할 금액
+	 * @return 투자 결과 상태메시지 (저장 실패 시 예외로 완료)
+	 */
+	@Override
+	public CompletableFuture<ResultMessage> investToProductAsync(final int USER_ID, final int PRODUCT_ID, final int INVESTING_AMOUNT) {
+		// [예외] 매진 등록된 상품의 경우 (Thread Pool 전환 없음)
+		if(INVESTING_AMOUNT > ZERO && soldOutRegistry.isSoldOut(PRODUCT_ID)) {
+			return investMetrics.countResult(CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT)));
 		}
+		return investMetrics.countResult(productAdmission.admit(PRODUCT_ID, () ->
+				investExecutor.supplyAsync(() -> transactionTemplate.execute(status -> investToProduct(USER_ID, PRODUCT_ID, INVESTING_AMOUNT)))));
 	}
 
 	/**
 	 * @title 유저가 투자한 상품들을 조회한다.
 	 * @content
-	 * 1. 상품에 투자한 이력이 있는지 조회한다.
-	 * 2. 유저가 투자한 상품에 대한 상품 Entity를 불러온다
-	 * 3. 해당 상품에서 유저가 투자한 금액 및 총 투자된 금액 등을 조회한다.
+	 * 1. 유저의 투자 주문을 상품 별로 묶어, 나의 투자 금액/최초 투자 일시를 1회 조회한다.
+	 *    (invest.statistics.in-memory=true이면 InvestStatisticsStore에 누적된 값을 DB 조회 없이 읽는다.)
+	 * 2. 상품의 총 모집 금액은 투자 시점에 누적된 값을 함께 조회한다.
+	 * 3. 투자한 이력이 없으면 유저 존재 여부에 따라 결과 메시지를 반환한다.
 	 * 
 	 * @param USER_ID : 유저 ID
 	 * @return 유저가 투자한 상품들의 List
@@ -158,70 +256,100 @@ public class InvestServiceImpl implements InvestService {
 	 * @author Iksoo Shin
 	 */
 	@Override
-	public List<Map<String, String>> getAllInvestedProducts(final int USER_ID) {
-		final User user = userRepo.findByUserId(USER_ID);
-		List<Map<String, String>> myInvestments = new ArrayList<>();
+	@Transactional(readOnly = true)
+	public List<InvestResponse> getAllInvestedProducts(final int USER_ID) {
+		final List<PortfolioSummary> portfolio = inMemoryStatistics ? statisticsStore.portfolioOf(USER_ID) : investOrderRepo.findPortfolioByUserId(USER_ID);
+		List<InvestResponse> myInvestments = new ArrayList<>(portfolio.size());
 		
 		// [예외] 투자한 이력이 없을 경우
-		if(user.getInvestOrders().size() == ZERO) {
-			myInvestments.add(RETURN_SETTER.returnSet(Message.NO_INVESTED_EVER));
+		if(portfolio.size() == ZERO) {
+			final Message message = userRepo.existsById(USER_ID) ? Message.NO_INVESTED_EVER : Message.NOT_EXISTS_USER_ID;
+			myInvestments.add(ResultMessage.of(message));
 			return myInvestments;
 		}
 		
-		List<Product> products = productRepo.findAllByInvestOrders(USER_ID);		
-		for(Product product : products) {
-			myInvestments.add(getMyInvestedForProduct(product, user));
+		for(PortfolioSummary investment : portfolio) {
+			myInvestments.add(PortfolioView.from(investment));
 		}
 		
 		return myInvestments;
 	}
 
+	/**
+	 * @title 유저가 투자한 상품들을 페이지 조회한다.
+	 * @content
+	 * 1. 유저가 투자한 상품 중, LAST_PRODUCT_ID 다음 상품부터 PAGE_SIZE 만큼 상품 별로 묶어 조회한다.(productId > ?, OFFSET 없음)
+	 * 2. PAGE_SIZE는 1 ~ invest.paging.max-size 범위로 보정한다.
+	 * 3. 첫 페이지에 투자한 이력이 없으면 유저 존재 여부에 따라 결과 메시지를 반환한다.
+	 * 
+	 * @param USER_ID : 유저 ID
+	 * @param LAST_PRODUCT_ID : 이전 페이지의 마지막 상품 ID (첫 페이지는 0)
+	 * @param PAGE_SIZE : 페이지 크기
+	 * @return 유저가 투자한 상품 목록과 다음 페이지 조회용 마지막 상품 ID
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public InvestPage getInvestedProductsAfter(final int USER_ID, final int LAST_PRODUCT_ID, final int PAGE_SIZE) {
+		final int pageSize = pageSizeOf(PAGE_SIZE);
+		final List<PortfolioSummary> portfolio = investOrderRepo.findPortfolioByUserIdAfter(USER_ID, LAST_PRODUCT_ID, PageRequest.of(FIRST_PAGE, pageSize));
+		List<InvestResponse> myInvestments = new ArrayList<>(portfolio.size());
+		
+		for(PortfolioSummary investment : portfolio) {
+			myInvestments.add(PortfolioView.from(investment));
+		}
+		
+		// [예외] 투자한 이력이 없을 경우
+		if(portfolio.size() == ZERO && LAST_PRODUCT_ID <= ZERO) {
+			myInvestments.add(ResultMessage.of(userRepo.existsById(USER_ID) ? Message.NO_INVESTED_EVER : Message.NOT_EXISTS_USER_ID));
+		}
+		
+		return InvestPage.of(myInvestments, portfolio.size() == pageSize ? portfolio.get(pageSize - 1).getProductId() : null);
+	}
+
 	/*****************************************************************************/
 	
-	// 투자 실행
-	private boolean doInvest(User user, Product product, final int INVESTING_AMOUNT) {
-		InvestOrder order = InvestOrder.of(user, product, INVESTING_AMOUNT);
+	// 페이지 크기 보정 (1 ~ invest.paging.max-size)
+	private int pageSizeOf(final int PAGE_SIZE) {
+		return Math.max(MIN_PAGE_SIZE, Math.min(PAGE_SIZE, maxPageSize));
+	}
+	
+	// 투자 요청 검증, 투자 가능하면 null 반환
+	static Message invalidReasonOf(User user, Product product, final int INVESTING_AMOUNT) {
+		// [예외] 투자 금액 0원 이하일 경우
+		if(INVESTING_AMOUNT <= ZERO) {
+			return Message.INVESTING_AMOUNT_LESS_THAN_ZERO;
+		}		
+		// [예외] Header Parameter로 User정보를 못 받은 경우
+		if(user == null) {
+			return Message.NOT_EXISTS_USER_ID;
+		}		
+		// [예외] 상품 코드가 잘못되거나 모집기간이 아닌 경우
+		if(! product.nowInvestableDate()) {
+			return Message.MISMATCHED_PRODUCT_ID;
+		}
+		return null;
+	}
+	
+	// 투자 실행 (저장 결과는 flush/commit 시점의 제약조건 예외로 확인 → ExceptionController에서 ERROR_IN_INVESTING_PROCESS로 변환)
+	private void doInvest(User user, Product product, final int INVESTING_AMOUNT, final int INVESTABLE_AMOUNT) {
+		final int PRODUCT_ID = product.getProductId();
 		
-		order = investOrderRepo.save(order);
+		InvestOrder order = InvestOrder.of(user, product, INVESTING_AMOUNT, INVESTABLE_AMOUNT);
 		
-		return investOrderRepo.findByOrderId(order.getOrderId()).equals(order);
+		investOrderRepo.save(order);
+		eventPublisher.publishEvent(OrderCommittedEvent.of(order));	// commit 후 투자 통계 반영
+		
+		// 상품의 신규 투자자인 경우 투자자 수 증가
+		if(productInvestorRepo.insertIfAbsent(PRODUCT_ID, user.getUserId()) > ZERO) {
+			productRepo.increaseNumberOfInvestors(PRODUCT_ID);
+		}
 	}
 	
 	// 투자 완료 후, 반환메시지 입력
-	private Map<String, String> afterCompleted(Product targetProduct, final int INVESTING_AMOUNT, final int REMAINING_INVESTABLE_AMOUNT) {
-		Map<String, String> returnValue = null;
-		
+	static ResultMessage afterCompleted(Product targetProduct, final int INVESTING_AMOUNT, final int REMAINING_INVESTABLE_AMOUNT) {
 		if(REMAINING_INVESTABLE_AMOUNT <= ZERO)
-			returnValue = RETURN_SETTER.returnSet(Message.COMPLETELY_SOLD_OUT);	// 결과 세팅 : RESULT_FLAG = "SO"
+			return InvestResult.completed(Message.COMPLETELY_SOLD_OUT, targetProduct, INVESTING_AMOUNT);	// 결과 세팅 : RESULT_FLAG = "SO"
 		else
-			returnValue = RETURN_SETTER.returnSet(Message.COMPLETE);			// 결과 세팅 : RESULT_FLAG = "Y"
-		
-		setReturnValues(returnValue, targetProduct, INVESTING_AMOUNT);
-		
-		return returnValue;
-	}
-
-	// 투자 완료 후, 반환 값 세팅
-	private void setReturnValues(Map<String, String> result, Product validProduct, final int INVESTING_AMOUNT) {
-		result.put("investedProductId", Integer.toString(validProduct.getProductId()));
-		result.put("investedProductNm", validProduct.getProductNm());
-		result.put("investedAmount"   , Integer.toString(INVESTING_AMOUNT));
-	}
-
-	// 특정 상품의 유저가 투자한 내역을 세팅하여 Map으로 반환한다.
-	private Map<String, String> getMyInvestedForProduct(Product product, User user) {
-		final InvestOrders ordersByProduct = new InvestOrders(product.getInvestOrders());
-		
-		int totalInvestedAmount  = ordersByProduct.sumInvestedAmountByProduct(product);		// 상품의 총 모집 금액
-		int myInvestingAmount    = ordersByProduct.sumInvestedAmountByUser(product, user);	// 유저의 상품 별 투자금
-		String firstInvestedDate = ordersByProduct.firstInvestedDate(product, user);		// 유저의 해당 상품 최초 투자 일시
-		
-		Map<String, String> myInvestment = new HashMap<>();
-		myInvestment.put("productId"           , Integer.toString(product.getProductId())); // 상품 ID
-		myInvestment.put("productNm"           , product.getProductNm()); 					// 상품 명
-		myInvestment.put("totalInvestingAmount", Integer.toString(totalInvestedAmount));	// 상품의 총 모집 금액
-		myInvestment.put("myInvestedAmount"    , Integer.toString(myInvestingAmount));      // 나의 투자 금액
-		myInvestment.put("investedAt"          , firstInvestedDate);      					// 나의 최초 투자 일시		
-		return myInvestment;
+			return InvestResult.completed(Message.COMPLETE, targetProduct, INVESTING_AMOUNT);			// 결과 세팅 : RESULT_FLAG = "Y"
 	}
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+package com.assets.invest.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.domain.IntHashSet;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.InvestOrderRow;
+import com.assets.invest.persistence.PortfolioSummary;
+import com.assets.invest.persistence.ProductSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : 투자 통계 In-Memory 저장소
+ * @content :
+ * 1. 상품별 누적 투자 금액/투자자(int Hash Set), 유저의 상품별 투자 금액/최초 투자 일시를 보관한다.
+ * 2. 투자 주문이 commit되면(OrderCommittedEvent) 해당 주문만큼 증분 반영한다.
+ * 3. 기동 시(Web 요청 수신 전) IV_INVEST_ORDER 전체를 Cursor로 재생하여 재구성한다.
+ * 4. 다른 인스턴스에서 commit된 주문은 반영되지 않아 조회 결과가 계속 어긋나므로(재기동 전까지), 단일 인스턴스에서만 사용한다.
+ *    (invest.statistics.in-memory=true일 때만 재구성/반영하며, 기본값 false는 DB 집계를 사용한다.)
+ */
+@Slf4j
+@Component
+public class InvestStatisticsStore implements SmartInitializingSingleton {
+
+	private final ConcurrentMap<Integer, ProductStatistics> products = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Integer, UserPortfolio> portfolios = new ConcurrentHashMap<>();
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${invest.statistics.in-memory:false}")
+	private boolean enabled;
+
+	// IV_INVEST_ORDER 재생
+	@Override
+	public void afterSingletonsInstantiated() {
+		if(! enabled) {
+			return;
+		}
+
+		final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		final long replayedOrders = readOnly.execute(status -> {
+			try(Stream<InvestOrderRow> orders = investOrderRepo.streamAllOrderRows()) {
+				return orders.peek(order -> record(OrderCommittedEvent.of(order))).count();
+			}
+		});
+
+		log.info("투자 통계 재구성 완료 : 주문 {}건, 상품 {}건, 유저 {}명", replayedOrders, products.size(), portfolios.size());
+	}
+
+	// commit된 투자 주문 반영
+	@TransactionalEventListener
+	public void onOrderCommitted(OrderCommittedEvent order) {
+		if(enabled) {
+			record(order);
+		}
+	}
+
+	void record(OrderCommittedEvent order) {
+		products.computeIfAbsent(order.getProductId(), id -> new ProductStatistics()).add(order);
+		portfolios.computeIfAbsent(order.getUserId(), id -> new UserPortfolio()).add(order);
+	}
+
+	/**
+	 * @title : 상품 조회 결과에 누적 투자 금액/투자자 수 적용
+	 *
+	 * @param product : 상품 조회 결과 (모집 금액, 기간 등)
+	 * @return 누적 값을 저장소 기준으로 바꾼 조회 결과
+	 */
+	public ProductSummary withStatistics(ProductSummary product) {
+		final ProductStatistics statistics = products.get(product.getProductId());
+		if(statistics == null) {
+			return new ProductTotals(product, 0, 0);
+		}
+		synchronized(statistics) {
+			return new ProductTotals(product, (int) statistics.investedAmount, statistics.investors.size());
+		}
+	}
+
+	/**
+	 * @title : 유저의 상품별 투자 내역
+	 *
+	 * @param userId : 유저 ID
+	 * @return 상품 ID 순 투자 내역 (투자 이력이 없으면 빈 목록)
+	 */
+	public List<PortfolioSummary> portfolioOf(int userId) {
+		final UserPortfolio portfolio = portfolios.get(userId);
+		if(portfolio == null) {
+			return Collections.emptyList();
+		}
+
+		final List<Holding> holdings;
+		synchronized(portfolio) {
+			holdings = new ArrayList<>(portfolio.holdings.values());
+		}
+
+		final List<PortfolioSummary> summaries = new ArrayList<>(holdings.size());
+		for(Holding holding : holdings) {
+			summaries.add(snapshotOf(holding));
+		}
+		return summaries;
+	}
+
+	/*****************************************************************************/
+
+	// 응답 시점의 투자 내역 복사본 (상품의 누적 투자 금액 포함)
+	private PortfolioSummary snapshotOf(Holding holding) {
+		final ProductStatistics statistics = products.get(holding.productId);
+		final long productInvestedAmount;
+		synchronized(statistics) {
+			productInvestedAmount = statistics.investedAmount;
+		}
+		synchronized(holding) {
+			return new Holding(holding.productId, holding.productNm, (int) productInvestedAmount, holding.myInvestedAmount, holding.firstInvestedAt);
+		}
+	}
+
+	// 상품별 누적 투자 금액, 투자자 (상품 단위로 동기화)
+	static class ProductStatistics {
+		private long investedAmount;
+		private final IntHashSet investors = new IntHashSet();
+
+		synchronized void add(OrderCommittedEvent order) {
+			investedAmount += order.getInvestingAmount();
+			investors.add(order.getUserId());
+		}
+	}
+
+	// 유저의 상품별 투자 내역 (유저 단위로 동기화)
+	static class UserPortfolio {
+		private final Map<Integer, Holding> holdings = new TreeMap<>();
+
+		synchronized void add(OrderCommittedEvent order) {
+			holdings.computeIfAbsent(order.getProductId(), id -> new Holding(id, order.getProductNm(), 0, 0L, Long.MAX_VALUE)).add(order);
+		}
+	}
+
+	// 유저의 상품 1건 투자 내역 (나의 투자 금액, 최초 투자 일시)
+	static class Holding implements PortfolioSummary {
+		private final int productId;
+		private final String productNm;
+		private final int productInvestedAmount;
+		private long myInvestedAmount;
+		private long firstInvestedAt;
+
+		Holding(int productId, String productNm, int productInvestedAmount, long myInvestedAmount, long firstInvestedAt) {
+			this.productId = productId;
+			this.productNm = productNm;
+			this.productInvestedAmount = productInvestedAmount;
+			this.myInvestedAmount = myInvestedAmount;
+			this.firstInvestedAt = firstInvestedAt;
+		}
+
+		synchronized void add(OrderCommittedEvent order) {
+			myInvestedAmount += order.getInvestingAmount();
+			firstInvestedAt = Math.min(firstInvestedAt, order.getInvestedAt());
+		}
+
+		@Override
+		public int getProductId() {
+			return productId;
+		}
+
+		@Override
+		public String getProductNm() {
+			return productNm;
+		}
+
+		@Override
+		public int getTotalInvestingAmount() {
+			return productInvestedAmount;
+		}
+
+		@Override
+		public long getMyInvestedAmount() {
+			return myInvestedAmount;
+		}
+
+		@Override
+		public Date getInvestedAt() {
+			return new Date(firstInvestedAt);
+		}
+	}
+
+	// 상품 조회 결과 + 저장소의 누적 투자 금액/투자자 수
+	static class ProductTotals implements ProductSummary {
+		private final ProductSummary product;
+		private final int currentlyInvestedAmount;
+		private final int numberOfInvestors;
+
+		ProductTotals(ProductSummary product, int currentlyInvestedAmount, int numberOfInvestors) {
+			this.product = product;
+			this.currentlyInvestedAmount = currentlyInvestedAmount;
+			this.numberOfInvestors = numberOfInvestors;
+		}
+
+		@Override
+		public int getProductId() {
+			return product.getProductId();
+		}
+
+		@Override
+		public String getProductNm() {
+			return product.getProductNm();
+		}
+
+		@Override
+		public int getTotalInvestingAmount() {
+			return product.getTotalInvestingAmount();
+		}
+
+		@Override
+		public int getCurrentlyInvestedAmount() {
+			return currentlyInvestedAmount;
+		}
+
+		@Override
+		public int getNumberOfInvestors() {
+			return numberOfInvestors;
+		}
+
+		@Override
+		public Date getStartedAt() {
+			return product.getStartedAt();
+		}
+
+		@Override
+		public Date getFinishedAt() {
+			return product.getFinishedAt();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.assets.invest.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.assets.invest.dto.PortfolioView;
+import com.assets.invest.dto.ProductView;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.PortfolioSummary;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.ProductSummary;
+import com.assets.invest.persistence.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * @title : 상품/나의 투자상품 목록 Streaming 출력
+ * @content :
+ * 1. Repository Stream(DB Cursor)에서 1건씩 읽어 JsonGenerator로 바로 출력한다.(목록 전체를 메모리에 올리지 않음)
+ * 2. 첫 건과 FLUSH_INTERVAL 건마다 flush하여, 조회가 끝나기 전에 응답을 내보낸다.
+ * 3. 응답 형식은 List 응답과 같은 JSON 배열이며, 조회 결과가 없으면 결과 메시지 1건을 담는다.
+ * (Cursor는 읽기 전용 트랜잭션 안에서만 유효하므로, 출력이 끝날 때까지 트랜잭션을 유지한다.)
+ */
+@Component
+public class InvestStreamWriter {
+	static final int FLUSH_INTERVAL = 256;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * @title : 판매 중인 전체 상품 정보 출력
+	 *
+	 * @param out : 응답 Stream
+	 */
+	@Transactional(readOnly = true)
+	public void writeAllProducts(OutputStream out) throws IOException {
+		try(Stream<ProductSummary> products = productRepo.streamAllInvestableSummaries(new Date());
+			JsonGenerator generator = generatorOf(out)) {
+			generator.writeStartArray();
+
+			int count = 0;
+			for(Iterator<ProductSummary> it = products.iterator(); it.hasNext();) {
+				generator.writeObject(ProductView.from(it.next()));
+				flushIfNeeded(generator, ++count);
+			}
+
+			// [예외] 투자가능한 상품이 없을 경우
+			if(count == 0) {
+				generator.writeObject(ResultMessage.of(Message.NOT_INVESTABLE_PRODUCT));
+			}
+
+			generator.writeEndArray();
+		}
+	}
+
+	/**
+	 * @title : 유저가 투자한 상품들 출력
+	 *
+	 * @param USER_ID : 유저 ID
+	 * @param out : 응답 Stream
+	 */
+	@Transactional(readOnly = true)
+	public void writeAllInvestedProducts(final int USER_ID, OutputStream out) throws IOException {
+		try(Stream<PortfolioSummary> portfolio = investOrderRepo.streamPortfolioByUserId(USER_ID);
+			JsonGenerator generator = generatorOf(out)) {
+			generator.writeStartArray();
+
+			int count = 0;
+			for(Iterator<PortfolioSummary> it = portfolio.iterator(); it.hasNext();) {
+				generator.writeObject(PortfolioView.from(it.next()));
+				flushIfNeeded(generator, ++count);
+			}
+
+			// [예외] 투자한 이력이 없을 경우
+			if(count == 0) {
+				generator.writeObject(ResultMessage.of(userRepo.existsById(USER_ID) ? Message.NO_INVESTED_EVER : Message.NOT_EXISTS_USER_ID));
+			}
+
+			generator.writeEndArray();
+		}
+	}
+
+	/*****************************************************************************/
+
+	// 응답 Stream은 Servlet Container가 닫는다.
+	private JsonGenerator generatorOf(OutputStream out) throws IOException {
+		return objectMapper.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	private static void flushIfNeeded(JsonGenerator generator, final int COUNT) throws IOException {
+		if(COUNT == 1 || COUNT % FLUSH_INTERVAL == 0) {
+			generator.flush();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.assets.invest.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.persistence.ProductRepository;
+
+/**
+ * @title : 상품 Lock + In-Memory 원장 기반 투자 금액 확보 (기본값)
+ * @content :
+ * 1. 상품 단위 Lock을 commit/rollback 시점까지 점유한다.
+ * 2. In-Memory 원장에서 투자 가능 금액을 O(1)로 예약한다.
+ * 3. DB 조건부 UPDATE로 최종 확인하며, 다른 인스턴스의 투자로 원장이 어긋난 경우 원장을 다시 적재한다.
+ */
+@Component
+@ConditionalOnProperty(name="invest.admission.mode", havingValue="local", matchIfMissing=true)
+public class LocalCapacityGuard implements CapacityGuard {
+
+	@Autowired
+	private ProductLockRegistry productLocks;
+
+	@Autowired
+	private ProductCapacityLedger capacityLedger;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestMetrics investMetrics;
+
+	@Override
+	public CapacityReservation reserve(Product product, final int INVESTING_AMOUNT) {
+		final int PRODUCT_ID = product.getProductId();
+
+		investMetrics.record(InvestMetrics.LOCK_WAIT, () -> productLocks.lockUntilCompletion(PRODUCT_ID));
+
+		return investMetrics.record(InvestMetrics.RESERVE, () -> reserveLocked(product, INVESTING_AMOUNT));
+	}
+
+	// 상품 Lock을 점유한 상태에서 원장 예약 후 DB 조건부 UPDATE
+	private CapacityReservation reserveLocked(Product product, final int INVESTING_AMOUNT) {
+		final int PRODUCT_ID = product.getProductId();
+
+		final int investableAmount = capacityLedger.tryReserve(product, INVESTING_AMOUNT);
+		if(investableAmount < INVESTING_AMOUNT) {
+			return CapacityReservation.rejected(investableAmount);
+		}
+
+		// 원장과 DB가 불일치하는 경우(다른 인스턴스의 투자 등) DB 기준으로 판단한다.
+		if(productRepo.addInvestedAmount(PRODUCT_ID, INVESTING_AMOUNT) == 0) {
+			capacityLedger.evict(PRODUCT_ID);
+			return CapacityReservation.rejected(productRepo.findRemainingAmount(PRODUCT_ID));
+		}
+
+		return CapacityReservation.reserved(investableAmount);
+	}
+}
@@ -0,0 +1,44 @@
+package com.assets.invest.service;
+
+import java.util.Date;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.persistence.InvestOrderRow;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @title : 투자 주문 저장 이벤트
+ * @content :
+ * 투자 주문을 저장한 트랜잭션 안에서 발행하며, commit된 후에 InvestStatisticsStore에 반영된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderCommittedEvent {
+	private final int productId;
+	private final String productNm;
+	private final int userId;
+	private final int investingAmount;
+	private final long investedAt;	// epoch millis
+
+	// 저장한 투자 주문 -> 이벤트
+	public static OrderCommittedEvent of(InvestOrder order) {
+		return new OrderCommittedEvent(order.getProduct().getProductId()
+									, order.getProduct().getProductNm()
+									, order.getUser().getUserId()
+									, order.getInvestingAmount()
+									, order.getInvestedAt().getTime());
+	}
+
+	// 저장된 투자 주문(재구성) -> 이벤트 (투자 일시가 없으면 InvestOrders.firstInvestedDate와 같이 현재 시각)
+	public static OrderCommittedEvent of(InvestOrderRow order) {
+		final Date investedAt = order.getInvestedAt();
+		return new OrderCommittedEvent(order.getProductId()
+									, order.getProductNm()
+									, order.getUserId()
+									, order.getInvestingAmount()
+									, investedAt != null ? investedAt.getTime() : System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,242 @@
+package com.assets.invest.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * @title : 상품별 투자 요청 입장 제어
+ * @content :
+ * 1. 상품별로 동시에 수행되는 투자를 invest.admission.concurrency-limit 개로 제한한다.
+ * 2. 제한을 넘은 요청은 상품별 대기열(invest.admission.queue-size)에 넣고, 앞선 투자가 끝나면 순서대로 시작한다.
+ *    (대기 중인 요청은 Thread를 점유하지 않는다.)
+ * 3. 대기열이 가득 찼거나, 수행 중인 투자에서 매진이 확인된 상품은 DB 조회 없이 즉시 거절한다.
+ *    (매진 여부는 해당 상품의 투자/대기 요청이 모두 끝나면 초기화된다.)
+ * 4. 투자/대기 요청이 모두 끝난 상품의 Gate는 제거한다.(존재하지 않는 상품 ID로 요청해도 Gate가 쌓이지 않는다.)
+ * 5. 전체 상품의 수행 중/대기 중인 요청 수 합계를 invest.admission.running/waiting Gauge로 제공한다.
+ *    (상품 ID를 Tag로 사용하지 않아, 요청한 상품 ID 수만큼 Metric이 늘어나지 않는다.)
+ */
+@Component
+public class ProductAdmission implements MeterBinder {
+	static final int ZERO = 0;
+
+	private final ConcurrentMap<Integer, Gate> gates = new ConcurrentHashMap<>();
+
+	@Value("${invest.admission.concurrency-limit:4}")
+	private int concurrencyLimit;
+
+	@Value("${invest.admission.queue-size:200}")
+	private int queueSize;
+
+	public ProductAdmission() {
+	}
+
+	ProductAdmission(int concurrencyLimit, int queueSize) {
+		this.concurrencyLimit = concurrencyLimit;
+		this.queueSize = queueSize;
+	}
+
+	/**
+	 * @title : 투자 요청 입장
+	 * @content :
+	 * 수행 중인 투자가 제한보다 적으면 바로 시작하고, 아니면 대기열에 넣는다.
+	 *
+	 * @param PRODUCT_ID : 상품 ID
+	 * @param investment : 투자 실행 함수 (투자 결과 Future 반환)
+	 * @return 투자 결과 상태메시지 (거절 시 INVEST_REQUEST_REJECTED 또는 WAS_SOLD_OUT)
+	 */
+	public CompletableFuture<ResultMessage> admit(final int PRODUCT_ID, Supplier<CompletableFuture<ResultMessage>> investment) {
+		while(true) {
+			final Gate gate = gates.computeIfAbsent(PRODUCT_ID, Gate::new);
+			final Entry entry = new Entry(gate, investment);
+
+			synchronized(gate) {
+				// 제거된 Gate인 경우 새 Gate로 다시 입장한다.
+				if(gate.removed) {
+					continue;
+				}
+				// [예외] 매진이 확인된 상품인 경우
+				if(gate.soldOut) {
+					return CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT));
+				}
+				if(gate.running >= concurrencyLimit) {
+					// [예외] 대기열이 가득 찬 경우
+					if(gate.waiting.size() >= queueSize) {
+						return CompletableFuture.completedFuture(ResultMessage.of(Message.INVEST_REQUEST_REJECTED));
+					}
+					gate.waiting.add(entry);
+					return entry.result;
+				}
+				gate.running++;
+			}
+
+			if(! start(entry)) {
+				leave(gate);
+			}
+			return entry.result;
+		}
+	}
+
+	// 상품의 대기 중인 요청 수
+	public int waitingCount(int productId) {
+		final Gate gate = gates.get(productId);
+		if(gate == null) {
+			return ZERO;
+		}
+		synchronized(gate) {
+			return gate.waiting.size();
+		}
+	}
+
+	// Gate가 있는 상품 수
+	int gateCount() {
+		return gates.size();
+	}
+
+	// 전체 상품의 수행 중인 요청 수
+	public int totalRunningCount() {
+		int running = ZERO;
+		for(Gate gate : gates.values()) {
+			synchronized(gate) {
+				running += gate.running;
+			}
+		}
+		return running;
+	}
+
+	// 전체 상품의 대기 중인 요청 수
+	public int totalWaitingCount() {
+		int waiting = ZERO;
+		for(Gate gate : gates.values()) {
+			synchronized(gate) {
+				waiting += gate.waiting.size();
+			}
+		}
+		return waiting;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("invest.admission.running", this, ProductAdmission::totalRunningCount)
+			.description("수행 중인 투자 요청 수 (전체 상품)")
+			.register(registry);
+		Gauge.builder("invest.admission.waiting", this, ProductAdmission::totalWaitingCount)
+			.description("대기 중인 투자 요청 수 (전체 상품)")
+			.register(registry);
+	}
+
+	/*****************************************************************************/
+
+	// 투자 시작, 투자가 즉시 끝났으면 false 반환(호출한 쪽이 다음 요청을 시작한다.)
+	private boolean start(Entry entry) {
+		CompletableFuture<ResultMessage> investing;
+		try {
+			investing = entry.investment.get();
+		} catch(RuntimeException e) {
+			investing = new CompletableFuture<>();
+			investing.completeExceptionally(e);
+		}
+
+		if(investing.isDone()) {
+			complete(entry, investing);
+			return false;
+		}
+
+		final CompletableFuture<ResultMessage> running = investing;
+		running.whenComplete((result, error) -> {
+			complete(entry, running);
+			leave(entry.gate);
+		});
+		return true;
+	}
+
+	// 투자 결과 전달, 매진이 확인되면 대기 중인 요청을 모두 거절한다.
+	private void complete(Entry entry, CompletableFuture<ResultMessage> investing) {
+		final ResultMessage result;
+		try {
+			result = investing.join();
+		} catch(RuntimeException e) {
+			entry.result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+			return;
+		}
+
+		if(isSoldOut(result)) {
+			rejectWaiting(entry.gate);
+		}
+		entry.result.complete(result);
+	}
+
+	// 투자 종료, 대기 중인 다음 요청을 시작한다.(즉시 끝나는 요청은 이어서 처리)
+	// 수행 중/대기 중인 요청이 없으면 Gate를 제거한다.(매진 여부도 함께 초기화)
+	private void leave(Gate gate) {
+		while(true) {
+			final Entry next;
+			synchronized(gate) {
+				next = gate.waiting.poll();
+				if(next == null) {
+					if(--gate.running == ZERO) {
+						gate.removed = true;
+						gates.remove(gate.productId, gate);
+					}
+					return;
+				}
+			}
+			if(start(next)) {
+				return;
+			}
+		}
+	}
+
+	private void rejectWaiting(Gate gate) {
+		final Queue<Entry> rejected;
+		synchronized(gate) {
+			gate.soldOut = true;
+			rejected = new ArrayDeque<>(gate.waiting);
+			gate.waiting.clear();
+		}
+		rejected.forEach(entry -> entry.result.complete(ResultMessage.of(Message.WAS_SOLD_OUT)));
+	}
+
+	private static boolean isSoldOut(ResultMessage result) {
+		final String resultCode = result.getResultCode();
+		return Message.COMPLETELY_SOLD_OUT.getMessageCode().equals(resultCode) || Message.WAS_SOLD_OUT.getMessageCode().equals(resultCode);
+	}
+
+	// 상품별 수행 중인 투자 수, 대기열, 매진 여부 (Gate 단위로 동기화)
+	static class Gate {
+		private final int productId;
+		private final Queue<Entry> waiting = new ArrayDeque<>();
+		private int running;
+		private boolean soldOut;
+		private boolean removed;
+
+		Gate(int productId) {
+			this.productId = productId;
+		}
+	}
+
+	// 투자 요청
+	static class Entry {
+		private final Gate gate;
+		private final Supplier<CompletableFuture<ResultMessage>> investment;
+		private final CompletableFuture<ResultMessage> result = new CompletableFuture<>();
+
+		Entry(Gate gate, Supplier<CompletableFuture<ResultMessage>> investment) {
+			this.gate = gate;
+			this.investment = investment;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.assets.invest.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.persistence.InvestOrderRepository;
+
+/**
+ * @title : 상품별 모집금액 원장(In-Memory)
+ * @content :
+ * 1. 상품별 현재 모집 금액을 AtomicLong으로 보관한다. (최초 조회 시 DB의 투자 금액 합계로 초기화)
+ * 2. 투자금은 CAS로 예약하며, 트랜잭션이 rollback되면 상품 Lock 해제 전에 예약금을 환불한다.
+ * 3. 매진/투자가능 금액 초과 판단을 투자 주문 목록 조회 없이 O(1)로 수행한다.
+ */
+@Component
+public class ProductCapacityLedger {
+	static final int ZERO = 0;
+
+	private final ConcurrentMap<Integer, AtomicLong> investedAmounts = new ConcurrentHashMap<>();
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	/**
+	 * @title : 투자 가능 금액 예약
+	 * @content :
+	 * 1. 현재 투자 가능 금액이 투자할 금액 이상이면 CAS로 예약한다.
+	 * 2. 예약은 현재 트랜잭션이 rollback될 때 자동으로 환불된다.
+	 *
+	 * @param product : 투자할 상품
+	 * @param INVESTING_AMOUNT : 투자할 금액
+	 * @return 예약 시도 시점의 투자 가능 금액 (투자할 금액보다 작으면 예약되지 않음)
+	 */
+	public int tryReserve(Product product, final int INVESTING_AMOUNT) {
+		final int PRODUCT_ID = product.getProductId();
+		final AtomicLong investedAmount = investedAmountOf(PRODUCT_ID);
+
+		while(true) {
+			final long current = investedAmount.get();
+			final int remainingAmount = remainingAmount(product, current);
+
+			// [예외] 매진되었거나 투자가능 금액을 초과한 경우
+			if(remainingAmount < INVESTING_AMOUNT) {
+				return remainingAmount;
+			}
+
+			if(investedAmount.compareAndSet(current, current + INVESTING_AMOUNT)) {
+				refundOnRollback(PRODUCT_ID, investedAmount, INVESTING_AMOUNT);
+				return remainingAmount;
+			}
+		}
+	}
+
+	// 현재 투자 가능 금액 조회
+	public int remainingAmount(Product product) {
+		return remainingAmount(product, investedAmountOf(product.getProductId()).get());
+	}
+
+	// 원장 초기화(다음 조회 시 DB 기준으로 다시 적재됨)
+	public void evict(int productId) {
+		investedAmounts.remove(productId);
+	}
+
+	/*****************************************************************************/
+
+	private AtomicLong investedAmountOf(int productId) {
+		return investedAmounts.computeIfAbsent(productId, id -> new AtomicLong(investOrderRepo.sumInvestingAmountByProductId(id)));
+	}
+
+	private int remainingAmount(Product product, long investedAmount) {
+		final long BALANCE = product.getTotalInvestingAmount() - investedAmount;
+		return BALANCE <= ZERO ? ZERO : (int) BALANCE;
+	}
+
+	// rollback 시 예약금 환불, 결과를 알 수 없는 경우 원장을 비워 DB 기준으로 재적재한다.
+	// (예약 이후 원장이 재적재되었다면 환불하지 않는다.)
+	// 상품 Lock 해제보다 먼저 수행하여, 다음 대기자가 환불 전의 원장을 읽지 않도록 한다.
+	private void refundOnRollback(final int PRODUCT_ID, final AtomicLong reservedLedger, final int INVESTING_AMOUNT) {
+		if(! TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if(status == STATUS_ROLLED_BACK) {
+					investedAmounts.computeIfPresent(PRODUCT_ID, (id, amount) -> {
+						if(amount == reservedLedger) {
+							amount.addAndGet(-INVESTING_AMOUNT);
+						}
+						return amount;
+					});
+				} else if(status == STATUS_UNKNOWN) {
+					investedAmounts.remove(PRODUCT_ID, reservedLedger);
+				}
+			}
+
+			@Override
+			public int getOrder() {
+				return ProductLockRegistry.UNLOCK_ORDER - 1;
+			}
+		});
+	}
+}
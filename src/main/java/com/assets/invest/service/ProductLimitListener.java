@@ -0,0 +1,25 @@
+package com.assets.invest.service;
+
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.assets.invest.domain.Product;
+
+/**
+ * @title : 상품 변경 Entity Listener
+ * @content :
+ * 상품 Entity가 수정되면(모집 금액 변경 등) 매진 등록을 해제하여, 다음 투자 시 DB 기준으로 다시 판단한다.
+ * (Hibernate가 Spring Bean Container로 생성하므로 Bean을 주입받을 수 있다.
+ *  누적 투자 금액/투자자 수의 조건부 UPDATE는 JPQL Bulk 연산이라 호출되지 않는다.)
+ */
+public class ProductLimitListener {
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+	@PostUpdate
+	public void afterUpdate(Product product) {
+		soldOutRegistry.clearAfterCommit(product.getProductId());
+	}
+}
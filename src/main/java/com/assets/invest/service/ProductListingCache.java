@@ -0,0 +1,164 @@
+package com.assets.invest.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.persistence.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * @title : 모집 중인 상품 목록 Cache(Read-Through)
+ * @content :
+ * 1. 상품 목록을 1건의 Cache 항목으로 보관하며, 동시 조회 시 DB 조회는 1회만 수행된다.
+ * 2. 항목은 TTL(invest.listing.cache.ttl) 또는 가장 가까운 모집 시작/종료 시각 중 먼저 도래하는 시점에 만료된다.
+ * 3. 투자가 commit되면 항목을 무효화하여, 다음 조회 시 누적 투자 금액/투자자 수를 다시 조회한다.
+ * (다른 인스턴스에서 발생한 투자는 TTL 이내에 반영된다.
+ *  단, invest.statistics.in-memory=true이면 누적 값을 InvestStatisticsStore에서 읽으므로 다른 인스턴스의 투자는 반영되지 않는다.)
+ */
+@Component
+public class ProductListingCache {
+	static final String CACHE_NAME = "productListing";
+	static final String LISTING_KEY = "INVESTABLE_PRODUCTS";
+	static final long ONE_MILLISECOND = 1L;
+
+	private final ProductRepository productRepo;
+	private final Cache<String, ProductListing> cache;
+
+	@Autowired
+	public ProductListingCache(ProductRepository productRepo
+							, MeterRegistry meterRegistry
+							, @Value("${invest.listing.cache.ttl:1s}") Duration ttl) {
+		this(productRepo, ttl, Ticker.systemTicker());
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	ProductListingCache(ProductRepository productRepo, Duration ttl, Ticker ticker) {
+		this.productRepo = productRepo;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(1)
+				.expireAfter(new ListingExpiry(ttl.toNanos()))
+				.ticker(ticker)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * @title : 상품 목록 조회
+	 * @content :
+	 * Cache에 유효한 목록이 없으면 loader로 조회하여 적재한다.
+	 * (적재 중 동시에 들어온 조회는 적재 완료를 기다린 후 같은 목록을 반환받는다.)
+	 *
+	 * @param loader : 기준 일시로 모집 중인 상품 목록을 조회하는 함수
+	 * @return 변경 불가능한 상품 목록
+	 */
+	public List<InvestResponse> get(Function<Date, List<InvestResponse>> loader) {
+		return cache.get(LISTING_KEY, key -> load(loader)).getViews();
+	}
+
+	// 현재 트랜잭션이 commit된 후 목록을 무효화한다.(트랜잭션 밖이면 즉시 무효화)
+	public void evictAfterCommit() {
+		if(! TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict();
+			}
+		});
+	}
+
+	// 목록 무효화
+	public void evict() {
+		cache.invalidate(LISTING_KEY);
+	}
+
+	/*****************************************************************************/
+
+	private ProductListing load(Function<Date, List<InvestResponse>> loader) {
+		final Date now = new Date();
+		final List<InvestResponse> views = Collections.unmodifiableList(loader.apply(now));	// 응답 항목은 변경 불가능한 객체
+
+		return new ProductListing(views, now.getTime(), nextBoundaryOf(now));
+	}
+
+	// 기준 일시 이후 목록이 바뀌는 가장 가까운 시각(모집 시작 또는 모집 종료 직후), 없으면 Long.MAX_VALUE
+	private long nextBoundaryOf(Date now) {
+		final Date nextStartedAt = productRepo.findNextStartedAt(now);
+		final Date nextFinishedAt = productRepo.findNextFinishedAt(now);
+
+		long boundary = Long.MAX_VALUE;
+
+		if(nextStartedAt != null) {
+			boundary = Math.min(boundary, nextStartedAt.getTime());
+		}
+		if(nextFinishedAt != null) {
+			boundary = Math.min(boundary, nextFinishedAt.getTime() + ONE_MILLISECOND);
+		}
+		return boundary;
+	}
+
+	// Cache 항목 : 조회 결과와 적재 시각, 다음 모집 시작/종료 시각
+	static class ProductListing {
+		private final List<InvestResponse> views;
+		private final long loadedAt;
+		private final long nextBoundary;
+
+		ProductListing(List<InvestResponse> views, long loadedAt, long nextBoundary) {
+			this.views = views;
+			this.loadedAt = loadedAt;
+			this.nextBoundary = nextBoundary;
+		}
+
+		List<InvestResponse> getViews() {
+			return views;
+		}
+
+		long nanosUntilBoundary() {
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, nextBoundary - loadedAt));
+		}
+	}
+
+	// 적재 시 TTL과 다음 모집 시작/종료 시각 중 빠른 시점으로 만료시간을 정한다.(조회로 연장되지 않음)
+	static class ListingExpiry implements Expiry<String, ProductListing> {
+		private final long ttlNanos;
+
+		ListingExpiry(long ttlNanos) {
+			this.ttlNanos = ttlNanos;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, ProductListing listing, long currentTime) {
+			return Math.min(ttlNanos, listing.nanosUntilBoundary());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, ProductListing listing, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, listing, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, ProductListing listing, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.assets.invest.service;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * @title : 상품 단위 Striped Lock
+ * @content :
+ * 1. 상품 ID를 CPU 코어 수 기반의 Lock 배열(Stripe)에 분산시킨다.
+ * 2. 서로 다른 상품의 투자는 병렬로 수행되고, 동일 상품(또는 동일 Stripe)의 투자만 경합한다.
+ * 3. Lock은 트랜잭션이 종료(commit/rollback)될 때 해제되어, 잔여금액 검증이 commit 시점까지 유효하다.
+ *    (해제는 다른 트랜잭션 동기화 이후 마지막에 수행되므로, 원장 환불 등은 Lock을 점유한 상태에서 처리된다.)
+ * 4. Lock을 기다리는 Thread 수를 invest.lock.waiting Gauge로 제공한다.
+ */
+@Component
+public class ProductLockRegistry implements MeterBinder {
+	static final int STRIPES_PER_CORE = 4;
+	static final int UNLOCK_ORDER = Ordered.LOWEST_PRECEDENCE;		// Lock 해제 동기화 순서 (가장 마지막)
+
+	private final ReentrantLock[] stripes;
+	private final int mask;
+
+	public ProductLockRegistry() {
+		this(Runtime.getRuntime().availableProcessors() * STRIPES_PER_CORE);
+	}
+
+	ProductLockRegistry(int concurrencyLevel) {
+		final int size = powerOfTwoAtLeast(concurrencyLevel);
+
+		this.stripes = new ReentrantLock[size];
+		this.mask = size - 1;
+
+		for(int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	// 상품 ID에 해당하는 Lock 반환
+	public Lock lockOf(int productId) {
+		return stripes[stripeIndex(productId)];
+	}
+
+	// 상품 Lock을 획득하고, 현재 트랜잭션이 종료될 때 해제되도록 등록한다.
+	public void lockUntilCompletion(int productId) {
+		if(! TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("상품 Lock은 트랜잭션 안에서만 획득할 수 있습니다.");
+		}
+
+		final Lock lock = lockOf(productId);
+		lock.lock();
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				lock.unlock();
+			}
+
+			@Override
+			public int getOrder() {
+				return UNLOCK_ORDER;
+			}
+		});
+	}
+
+	// Stripe 개수
+	public int getStripeCount() {
+		return stripes.length;
+	}
+
+	// 전체 Stripe에서 Lock을 기다리는 Thread 수 (추정치)
+	public int getQueueLength() {
+		int queueLength = 0;
+		for(ReentrantLock stripe : stripes) {
+			queueLength += stripe.getQueueLength();
+		}
+		return queueLength;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("invest.lock.waiting", this, ProductLockRegistry::getQueueLength)
+			.description("상품 Lock을 기다리는 Thread 수")
+			.register(registry);
+	}
+
+	// 연속된 상품 ID가 인접 Stripe에 몰리지 않도록 해시를 섞는다.
+	private int stripeIndex(int productId) {
+		int hash = productId * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private static int powerOfTwoAtLeast(int value) {
+		int size = 1;
+		while(size < value) {
+			size <<= 1;
+		}
+		return size;
+	}
+}
@@ -0,0 +1,44 @@
+package com.assets.invest.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.assets.invest.persistence.ProductInvestorRepository;
+import com.assets.invest.persistence.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @title : 상품 누적 통계 초기화
+ * @content :
+ * 1. 기동 시, 투자 주문 내역 기준으로 누락된 상품별 투자자를 등록한다.
+ * 2. 상품의 누적 투자 금액, 투자자 수를 재계산한다.
+ * (컬럼 추가 이전에 적재된 데이터 보정용 1회성 Migration)
+ * 3. invest.statistics.recalculate-on-startup=true일 때만 수행한다.(기본값 false)
+ *    재계산은 Lock 없이 누적 값을 덮어쓰므로, 다른 인스턴스가 투자를 처리하지 않는 상태에서 1개 인스턴스로만 수행한다.
+ *    (수행 중 다른 인스턴스의 조건부 UPDATE가 반영된 누적 값을 잃을 수 있다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name="invest.statistics.recalculate-on-startup", havingValue="true")
+public class ProductStatisticsInitializer implements ApplicationRunner {
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+	@Override
+	@Transactional
+	public void run(ApplicationArguments args) {
+		final int insertedInvestors = productInvestorRepo.insertAllMissingFromOrders();
+		final int updatedProducts = productRepo.recalculateStatistics();
+
+		log.info("상품 누적 통계 재계산 완료 : 투자자 {}건 등록, 상품 {}건 갱신", insertedInvestors, updatedProducts);
+	}
+}
@@ -0,0 +1,86 @@
+package com.assets.invest.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @title : 매진 상품 목록(In-Memory)
+ * @content :
+ * 1. 모집 금액을 모두 채운 상품 ID를 보관하여, 이후의 투자 요청을 유저/상품 조회 없이 WAS_SOLD_OUT으로 거절한다.
+ * 2. 매진 투자(COMPLETELY_SOLD_OUT), 매진 확인(WAS_SOLD_OUT) 모두 commit된 후에 등록한다.
+ *    (원장이 commit 전의 예약을 포함하므로, 매진시킨 투자가 rollback되면 등록하지 않는다.)
+ * 3. 모집 금액을 늘리면(Product.setTotalInvestingAmountSafely → 저장) ProductLimitListener가 등록을 해제한다.
+ * 4. 다른 인스턴스에서 모집 금액을 늘린 경우를 위해, 등록은 invest.sold-out.ttl이 지나면 만료된다.
+ */
+@Component
+public class SoldOutRegistry {
+	private final ConcurrentMap<Integer, Long> expiresAt = new ConcurrentHashMap<>();
+	private final long ttlNanos;
+	private final LongSupplier nanoTime;
+
+	@Autowired
+	public SoldOutRegistry(@Value("${invest.sold-out.ttl:1m}") Duration ttl) {
+		this(ttl, System::nanoTime);
+	}
+
+	SoldOutRegistry(Duration ttl, LongSupplier nanoTime) {
+		this.ttlNanos = ttl.toNanos();
+		this.nanoTime = nanoTime;
+	}
+
+	// 매진 여부 (만료된 등록은 해제한다.)
+	public boolean isSoldOut(int productId) {
+		final Long expiry = expiresAt.get(productId);
+		if(expiry == null) {
+			return false;
+		}
+		if(nanoTime.getAsLong() - expiry >= 0) {
+			expiresAt.remove(productId, expiry);
+			return false;
+		}
+		return true;
+	}
+
+	// 매진 등록
+	public void markSoldOut(int productId) {
+		expiresAt.put(productId, nanoTime.getAsLong() + ttlNanos);
+	}
+
+	// 현재 트랜잭션이 commit된 후 매진 등록한다.(트랜잭션 밖이면 즉시 등록)
+	public void markSoldOutAfterCommit(final int PRODUCT_ID) {
+		afterCommit(() -> markSoldOut(PRODUCT_ID));
+	}
+
+	// 매진 해제 후, commit 전에 다시 등록된 경우를 위해 commit된 후 한 번 더 해제한다.
+	public void clearAfterCommit(final int PRODUCT_ID) {
+		clear(PRODUCT_ID);
+		afterCommit(() -> clear(PRODUCT_ID));
+	}
+
+	// 매진 해제
+	public void clear(int productId) {
+		expiresAt.remove(productId);
+	}
+
+	private static void afterCommit(Runnable action) {
+		if(! TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,93 @@
+package com.assets.invest;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.ProductInvestor;
+import com.assets.invest.domain.User;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductInvestorRepository;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+import com.assets.invest.service.InvestService;
+
+/**
+ * @title : 투자 테스트 데이터
+ * @content :
+ * 테스트 상품/유저를 등록하고, 테스트가 끝나면 투자 주문, 상품 투자자, 상품, 유저를 삭제한다.
+ */
+@Component
+public class InvestFixture {
+	public static final String PRODUCT_NM = "부동산 포트폴리오";
+	public static final String USER_NAME = "앨런머스크";
+	public static final String USER_PASSWORD = "4321";
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+
+	// 오늘부터 7일간 모집하는 상품 등록
+	public Product saveProduct(String productNm, int totalInvestingAmount) {
+		final Date finishedAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7));
+
+		return productRepo.save(new Product(productNm, totalInvestingAmount, new Date(), finishedAt));
+	}
+
+	public Product saveProduct(int totalInvestingAmount) {
+		return saveProduct(PRODUCT_NM, totalInvestingAmount);
+	}
+
+	public User saveUser() {
+		return userRepo.save(new User(USER_NAME, USER_PASSWORD));
+	}
+
+	// 상품별 투자 주문, 상품 투자자, 상품을 삭제한 뒤 유저 삭제
+	public void delete(List<Product> products, List<User> users) {
+		for(Product product : products) {
+			investOrderRepo.deleteAll(investOrderRepo.findAllByProduct(product));
+
+			for(User user : users) {
+				productInvestorRepo.delete(new ProductInvestor(product.getProductId(), user.getUserId()));
+			}
+			productRepo.delete(product);
+		}
+		userRepo.deleteAll(users);
+	}
+
+	public void delete(Product product, User... users) {
+		delete(Arrays.asList(product), Arrays.asList(users));
+	}
+
+	/**
+	 * @title : 반복 투자
+	 * @content : 같은 금액으로 여러 번 투자하고, 투자 완료(매진 포함)된 금액의 합계를 반환한다.
+	 */
+	public static int investRepeatedly(InvestService investService, final int USER_ID, final int PRODUCT_ID, final int INVEST_AMOUNT, final int TIMES) {
+		int completedAmount = 0;
+
+		for(int i = 0; i < TIMES; i++) {
+			String resultCode = investService.investToProduct(USER_ID, PRODUCT_ID, INVEST_AMOUNT).getResultCode();
+
+			if(Message.COMPLETE.getMessageCode().equals(resultCode) || Message.COMPLETELY_SOLD_OUT.getMessageCode().equals(resultCode)) {
+				completedAmount += INVEST_AMOUNT;
+			}
+		}
+		return completedAmount;
+	}
+}
@@ -0,0 +1,94 @@
+package com.assets.invest.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.TransactionSystemException;
+
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.service.InvestService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExceptionControllerTest {
+	final int USER_ID = 10001;
+	final int AMOUNT = 120000;
+	final int PRODUCT_ID = 198;
+
+	@Mock
+	private InvestService investService;
+
+	@InjectMocks
+	private InvestController investController;
+
+	private MockMvc mockMvc;
+
+
+	@Before
+	public void mockMvc_셋업() {
+		mockMvc = MockMvcBuilders.standaloneSetup(investController).setControllerAdvice(new ExceptionController()).build();
+	}
+
+	@Test
+	public void 투자_주문_저장에_실패하면_투자_오류_메시지를_반환한다() throws Exception {
+		when(investService.investToProductAsync(USER_ID, PRODUCT_ID, AMOUNT)).thenReturn(failedWith(new DataIntegrityViolationException("FK_INVEST_ORDER_USER")));
+
+		investAndWait()
+			.andExpect(status().isInternalServerError())
+			.andExpect(jsonPath("$.RESULT_CODE").value(Message.ERROR_IN_INVESTING_PROCESS.getMessageCode()));
+	}
+
+	@Test
+	public void commit에_실패하면_투자_오류_메시지를_반환한다() throws Exception {
+		when(investService.investToProductAsync(USER_ID, PRODUCT_ID, AMOUNT)).thenReturn(failedWith(new TransactionSystemException("Could not commit JPA transaction")));
+
+		investAndWait()
+			.andExpect(status().isInternalServerError())
+			.andExpect(jsonPath("$.RESULT_CODE").value(Message.ERROR_IN_INVESTING_PROCESS.getMessageCode()));
+	}
+
+	@Test
+	public void 투자_대기열이_가득_차면_503을_반환한다() throws Exception {
+		when(investService.investToProductAsync(USER_ID, PRODUCT_ID, AMOUNT)).thenThrow(new TaskRejectedException("invest executor queue is full"));
+
+		invest()
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(jsonPath("$.RESULT_CODE").value(Message.INVEST_REQUEST_REJECTED.getMessageCode()));
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private ResultActions invest() throws Exception {
+		return mockMvc.perform(post("/Invest/invest/" + PRODUCT_ID).header("X-USER-ID", USER_ID).header("X-INVESTING-AMOUNT", AMOUNT));
+	}
+
+	// 비동기 응답이 완료된 후의 결과
+	private ResultActions investAndWait() throws Exception {
+		MvcResult started = invest().andExpect(request().asyncStarted()).andReturn();
+		return mockMvc.perform(asyncDispatch(started));
+	}
+
+	private static CompletableFuture<ResultMessage> failedWith(Throwable cause) {
+		CompletableFuture<ResultMessage> result = new CompletableFuture<>();
+		result.completeExceptionally(cause);
+		return result;
+	}
+}
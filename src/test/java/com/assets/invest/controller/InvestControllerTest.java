@@ -1,7 +1,9 @@
 package com.assets.invest.controller;
 
 import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.Before;
@@ -9,6 +11,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -45,4 +48,18 @@ public class InvestControllerTest {
 	    mockMvc.perform(post("/Invest/invest/" + PRODUCT_ID))
 	    	.andExpect(result -> assertTrue(result.getResolvedException().getClass().isAssignableFrom(MissingRequestHeaderException.class)));
 	}
+	
+	@Test
+	public void controller_investToProducts_호출()  throws Exception {
+	    mockMvc.perform(post("/Invest/invest/bulk").contentType(MediaType.APPLICATION_JSON)
+	    		.content("[{\"userId\":" + USER_ID + ",\"productId\":" + PRODUCT_ID + ",\"investingAmount\":" + AMOUNT + "}]"))
+	    	.andExpect(status().isOk());
+	}
+	
+	@Test
+	public void controller_getInvestedProductsPage_호출()  throws Exception {
+	    mockMvc.perform(get("/Invest/search/myInvests").header("X-USER-ID", USER_ID).header("X-PAGE-SIZE", 1))
+	    	.andExpect(status().isOk())
+	    	.andExpect(jsonPath("$.length()").value(1));
+	}
 }
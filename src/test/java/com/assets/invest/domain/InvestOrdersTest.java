@@ -0,0 +1,86 @@
+package com.assets.invest.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class InvestOrdersTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final long FIRST_INVESTED_AT = 1_615_000_000_000L;
+
+	private Product product;
+	private Product otherProduct;
+	private User user;
+	private User otherUser;
+	private InvestOrders orders;
+
+	@Before
+	public void 투자_데이터_셋업() {
+		product      = product(1001);
+		otherProduct = product(1002);
+		user         = user(10001);
+		otherUser    = user(10002);
+
+		List<InvestOrder> investOrders = new ArrayList<>();
+		investOrders.add(order(user, product, 100_000, FIRST_INVESTED_AT + 2_000));
+		investOrders.add(order(user, product, 200_000, FIRST_INVESTED_AT));
+		investOrders.add(order(otherUser, product, 300_000, FIRST_INVESTED_AT - 1_000));
+		investOrders.add(order(user, otherProduct, 400_000, FIRST_INVESTED_AT - 2_000));
+		orders = new InvestOrders(investOrders);
+	}
+
+	@Test
+	public void 상품의_투자_금액과_중복없는_투자자_수를_구한다() {
+		assertThat(orders.sumInvestedAmountByProduct(product)).isEqualTo(600_000);
+		assertThat(orders.numberOfInvestors(product)).isEqualTo(2);
+		assertThat(orders.investableAmount(product)).isEqualTo(INVEST_AMOUNT_LIMIT - 600_000);
+	}
+
+	@Test
+	public void 유저의_상품_투자_금액과_최초_투자일자를_구한다() {
+		assertThat(orders.sumInvestedAmountByUser(product, user)).isEqualTo(300_000);
+		assertThat(orders.firstInvestedDate(product, user)).isEqualTo(new Date(FIRST_INVESTED_AT).toString());
+		assertThat(orders.sumInvestedAmountByUser(otherProduct, otherUser)).isZero();
+	}
+
+	@Test
+	public void IntHashSet은_중복없이_개수를_센다() {
+		IntHashSet set = new IntHashSet();
+
+		for(int i = 0; i < 1_000; i++) {
+			set.add(i);
+			set.add(-i);
+		}
+
+		assertThat(set.size()).isEqualTo(1_999);
+		assertThat(set.contains(0)).isTrue();
+		assertThat(set.contains(999)).isTrue();
+		assertThat(set.contains(1_000)).isFalse();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private Product product(int productId) {
+		Product product = new Product("개인신용 포트폴리오", INVEST_AMOUNT_LIMIT, new Date(), new Date());
+		ReflectionTestUtils.setField(product, "productId", productId);
+		return product;
+	}
+
+	private User user(int userId) {
+		User user = new User("앨런머스크", "4321");
+		ReflectionTestUtils.setField(user, "userId", userId);
+		return user;
+	}
+
+	private InvestOrder order(User user, Product product, int investingAmount, long investedAt) {
+		InvestOrder order = InvestOrder.of(user, product, investingAmount, INVEST_AMOUNT_LIMIT);
+		ReflectionTestUtils.setField(order, "investedAt", new Date(investedAt));
+		return order;
+	}
+}
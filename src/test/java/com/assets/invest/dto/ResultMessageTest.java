@@ -0,0 +1,59 @@
+package com.assets.invest.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.enums.Message;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ResultMessageTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void 고정된_결과_메시지는_같은_인스턴스를_반환한다() {
+		assertThat(ResultMessage.of(Message.WAS_SOLD_OUT)).isSameAs(ResultMessage.of(Message.WAS_SOLD_OUT));
+	}
+
+	@Test
+	public void 결과_메시지는_RESULT_항목으로_직렬화된다() throws Exception {
+		JsonNode json = objectMapper.valueToTree(ResultMessage.of(Message.NO_INVESTED_EVER));
+
+		assertThat(json.get("RESULT_FLAG").asText()).isEqualTo(Message.NO_INVESTED_EVER.getMessageResult());
+		assertThat(json.get("RESULT_CODE").asText()).isEqualTo(Message.NO_INVESTED_EVER.getMessageCode());
+		assertThat(json.get("RESULT_MESSAGE").asText()).isEqualTo(Message.NO_INVESTED_EVER.getMessageContent());
+		assertThat(json.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void 투자_완료_결과는_투자_상품과_금액을_포함한다() throws Exception {
+		JsonNode json = objectMapper.valueToTree(InvestResult.completed(Message.COMPLETE, product(), INVEST_AMOUNT));
+
+		assertThat(json.get("RESULT_CODE").asText()).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(json.get("investedProductNm").asText()).isEqualTo("부동산 포트폴리오");
+		assertThat(json.get("investedAmount").asInt()).isEqualTo(INVEST_AMOUNT);
+		assertThat(json.has("RESULT_INVESTABLE_AMOUNT")).isFalse();
+	}
+
+	@Test
+	public void 투자가능_금액_초과_결과는_투자가능_금액을_포함한다() throws Exception {
+		JsonNode json = objectMapper.valueToTree(InvestResult.overflowed(product(), INVEST_AMOUNT_LIMIT - INVEST_AMOUNT));
+
+		assertThat(json.get("RESULT_CODE").asText()).isEqualTo(Message.OVERFLOW_INVESTABLE_AMOUNT.getMessageCode());
+		assertThat(json.get("RESULT_INVESTABLE_AMOUNT").asInt()).isEqualTo(INVEST_AMOUNT_LIMIT - INVEST_AMOUNT);
+		assertThat(json.has("investedProductId")).isFalse();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private Product product() {
+		return new Product("부동산 포트폴리오", INVEST_AMOUNT_LIMIT, new Date(), new Date());
+	}
+}
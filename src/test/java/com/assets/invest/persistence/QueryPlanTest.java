@@ -0,0 +1,142 @@
+package com.assets.invest.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주요 Repository 조회 SQL의 실행계획(H2 EXPLAIN)이 Table Scan이 아닌 Index를 사용하는지 검증한다.
+ * (Repository 메소드를 실행하여 Hibernate가 생성한 SQL을 수집하고, 같은 Parameter로 EXPLAIN한다.
+ *  JPQL이나 Index가 바뀌어도 실행계획이 Full Scan으로 회귀하지 않도록 함)
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class QueryPlanTest {
+	final String TABLE_SCAN = "tableScan";
+	final int PRODUCT_ID = 1001;
+	final int USER_ID = 10001;
+	final int PAGE_SIZE = 20;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private SqlCapture sqlCapture;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+
+	// 전체 조회는 USER_ID 조건뿐이라 H2가 FK 인덱스(USER_ID)와 IX_INVEST_ORDER_USER의 비용을 동일하게 보므로, USER_ID 인덱스 탐색 여부로 검증한다.
+	@Test
+	public void 나의_투자상품_조회는_유저_인덱스를_사용한다() {
+		String sql = sqlCapture.capture(() -> investOrderRepo.findPortfolioByUserId(USER_ID));
+
+		assertThat(explain(sql, USER_ID)).containsPattern("PUBLIC\\.\\w+: USER_ID = \\?1").doesNotContain(TABLE_SCAN);
+	}
+
+	@Test
+	public void 나의_투자상품_페이지_조회는_유저_인덱스를_사용한다() {
+		String sql = sqlCapture.capture(() -> investOrderRepo.findPortfolioByUserIdAfter(USER_ID, PRODUCT_ID, PageRequest.of(0, PAGE_SIZE)));
+
+		// Keyset 조건(PRODUCT_ID 범위)은 FK 인덱스로 처리할 수 없으므로 IX_INVEST_ORDER_USER가 선택되어야 한다.
+		assertThat(explain(sql, USER_ID, PRODUCT_ID, PAGE_SIZE)).containsPattern("IX_INVEST_ORDER_USER: USER_ID = \\?1\\s+AND PRODUCT_ID > \\?2").doesNotContain(TABLE_SCAN);
+	}
+
+	@Test
+	public void 상품별_투자금액_집계는_상품_인덱스만으로_처리된다() {
+		String sql = sqlCapture.capture(() -> investOrderRepo.sumInvestingAmountByProductId(PRODUCT_ID));
+
+		assertThat(explain(sql, PRODUCT_ID)).contains("IX_INVEST_ORDER_PRODUCT").doesNotContain(TABLE_SCAN);
+	}
+
+	@Test
+	public void 모집중인_상품_조회는_기간_인덱스를_사용한다() {
+		final Date currentDate = new Date();
+		String sql = sqlCapture.capture(() -> productRepo.findAllInvestableSummaries(currentDate));
+
+		assertThat(explain(sql, currentDate, currentDate)).contains("IX_PRODUCT_PERIOD").doesNotContain(TABLE_SCAN);
+	}
+
+	@Test
+	public void 상품_투자자_등록은_기본키를_사용한다() {
+		String sql = sqlCapture.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+			productInvestorRepo.insertIfAbsent(PRODUCT_ID, USER_ID);
+			status.setRollbackOnly();
+		}));
+
+		assertThat(explain(sql, PRODUCT_ID, USER_ID, PRODUCT_ID, USER_ID)).contains("PRIMARY_KEY").doesNotContain(TABLE_SCAN);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private String explain(String sql, Object... parameters) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+	}
+
+	// Hibernate가 생성한 SQL 수집 (capture 중인 Thread의 SQL만 수집)
+	static class SqlCapture implements StatementInspector {
+		private static final long serialVersionUID = 1L;
+
+		private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+		@Override
+		public String inspect(String sql) {
+			final List<String> statements = captured.get();
+			if(statements != null) {
+				statements.add(sql);
+			}
+			return sql;
+		}
+
+		// Repository 호출 중 실행된 SQL 1건 반환
+		String capture(Runnable query) {
+			captured.set(new ArrayList<>());
+			try {
+				query.run();
+				assertThat(captured.get()).hasSize(1);
+				return captured.get().get(0);
+			} finally {
+				captured.remove();
+			}
+		}
+	}
+
+	@TestConfiguration
+	static class SqlCaptureConfiguration {
+		@Bean
+		SqlCapture sqlCapture() {
+			return new SqlCapture();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer statementInspector(SqlCapture sqlCapture) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.assets.invest.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.persistence.ReadWriteRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ReadWriteRoutingTest {
+	final String SELECT_ONE = "SELECT 1";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private HikariDataSource readPool;
+	private HikariDataSource writePool;
+
+
+	@Before
+	public void Pool_조회() throws Exception {
+		ReadWriteRoutingDataSource routingDataSource = (ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+
+		readPool  = (HikariDataSource) routingDataSource.poolOf(Route.READ_ONLY);
+		writePool = (HikariDataSource) routingDataSource.poolOf(Route.READ_WRITE);
+		readPool.getConnection().close();	// Pool 시작
+	}
+
+	@Test
+	public void 읽기_전용_트랜잭션은_읽기_Pool의_Connection을_사용한다() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		int activeReadConnections = readOnly.execute(status -> {
+			jdbcTemplate.queryForObject(SELECT_ONE, Integer.class);
+			return readPool.getHikariPoolMXBean().getActiveConnections();
+		});
+
+		assertThat(activeReadConnections).isEqualTo(1);
+	}
+
+	@Test
+	public void 쓰기_트랜잭션은_읽기_Pool을_사용하지_않는다() {
+		int activeReadConnections = new TransactionTemplate(transactionManager).execute(status -> {
+			jdbcTemplate.queryForObject(SELECT_ONE, Integer.class);
+			return readPool.getHikariPoolMXBean().getActiveConnections();
+		});
+
+		assertThat(activeReadConnections).isZero();
+	}
+
+	@Test
+	public void Pool별_대기_지표가_등록된다() {
+		for(HikariDataSource pool : new HikariDataSource[] {readPool, writePool}) {
+			assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", pool.getPoolName()).gauge()).isNotNull();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.assets.invest.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.enums.Message;
+import com.assets.invest.service.InvestService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class SecondLevelCacheTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+
+	private Product product;
+	private User user;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private InvestService investService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private InvestFixture investFixture;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		product = investFixture.saveProduct(INVEST_AMOUNT_LIMIT);
+		user    = investFixture.saveUser();
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investFixture.delete(product, user);
+	}
+
+	@Test
+	public void 투자해도_유저와_상품의_Cache는_유지된다() {
+		productRepo.findById(product.getProductId());
+		userRepo.findById(user.getUserId());
+
+		String resultCode = investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT).getResultCode();
+
+		assertThat(resultCode).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(entityManagerFactory.getCache().contains(Product.class, product.getProductId())).isTrue();
+		assertThat(entityManagerFactory.getCache().contains(User.class, user.getUserId())).isTrue();
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 모집금액을_변경하면_Cache에_반영된다() {
+		Product cachedProduct = productRepo.findById(product.getProductId()).get();
+
+		cachedProduct.setTotalInvestingAmountSafely(INVEST_AMOUNT_LIMIT * 2);
+		productRepo.save(cachedProduct);
+
+		assertThat(entityManagerFactory.getCache().contains(Product.class, product.getProductId())).isTrue();
+		assertThat(productRepo.findById(product.getProductId()).get().getTotalInvestingAmount()).isEqualTo(INVEST_AMOUNT_LIMIT * 2);
+	}
+
+	@Test
+	public void 유저_이름을_변경하면_Cache에_반영된다() {
+		User cachedUser = userRepo.findById(user.getUserId()).get();
+
+		cachedUser.setUserNameSafely("일론머스크", InvestFixture.USER_PASSWORD);
+		userRepo.save(cachedUser);
+
+		assertThat(userRepo.findById(user.getUserId()).get().getUserNm()).isEqualTo("일론머스크");
+	}
+}
@@ -0,0 +1,67 @@
+package com.assets.invest.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class SequenceAllocationTest {
+	final String SEQUENCE_NAME = "ORDER_SEQUENCE";
+
+	@Value("${invest.id.allocation-size}")
+	private long allocationSize;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SequenceAllocationAligner sequenceAligner;
+
+	@After
+	public void 증가값_복구() {
+		alterIncrement(allocationSize);
+	}
+
+	@Test
+	public void ID_Sequence의_증가값은_할당_크기와_같다() {
+		for(String sequenceName : SequenceAllocationAligner.ID_SEQUENCES) {
+			assertThat(incrementOf(sequenceName)).isEqualTo(allocationSize);
+		}
+	}
+
+	@Test
+	public void 할당_크기보다_작은_증가값은_늘린다() {
+		alterIncrement(1);
+
+		sequenceAligner.afterPropertiesSet();
+
+		assertThat(incrementOf(SEQUENCE_NAME)).isEqualTo(allocationSize);
+	}
+
+	@Test
+	public void 할당_크기보다_큰_증가값은_줄이지_않는다() {
+		alterIncrement(allocationSize * 2);
+
+		sequenceAligner.afterPropertiesSet();
+
+		assertThat(incrementOf(SEQUENCE_NAME)).isEqualTo(allocationSize * 2);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private long incrementOf(String sequenceName) {
+		return jdbcTemplate.queryForObject("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+	}
+
+	private void alterIncrement(long increment) {
+		jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE_NAME + " INCREMENT BY " + increment);
+	}
+}
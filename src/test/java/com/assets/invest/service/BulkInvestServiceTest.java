@@ -0,0 +1,132 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestEntry;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class BulkInvestServiceTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+	final int NOT_EXISTS_ID = -1;
+
+	private Product product;
+	private Product product2;
+	private User user;
+	private User user2;
+
+	@Autowired
+	private BulkInvestService bulkInvestService;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private InvestFixture investFixture;
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		product  = investFixture.saveProduct(INVEST_AMOUNT_LIMIT);
+		product2 = investFixture.saveProduct(INVEST_AMOUNT_LIMIT);
+		user     = investFixture.saveUser();
+		user2    = investFixture.saveUser();
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investFixture.delete(Arrays.asList(product, product2), Arrays.asList(user, user2));
+	}
+
+	@Test
+	public void 상품별로_묶어_투자하고_누적_투자금액과_투자자수가_증가한다() {
+		List<ResultMessage> results = bulkInvestService.investAll(Arrays.asList(
+				entry(user, product, INVEST_AMOUNT),
+				entry(user2, product2, INVEST_AMOUNT),
+				entry(user2, product, INVEST_AMOUNT),
+				entry(user, product, INVEST_AMOUNT)));
+
+		assertThat(results).extracting(ResultMessage::getResultCode).containsOnly(Message.COMPLETE.getMessageCode());
+
+		Product investedProduct = productRepo.findByProductId(product.getProductId());
+		assertThat(investedProduct.getCurrentlyInvestedAmount()).isEqualTo(INVEST_AMOUNT * 3);
+		assertThat(investedProduct.getNumberOfInvestors()).isEqualTo(2);
+		assertThat(investOrderRepo.findAllByProduct(product2)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 모집한도를_넘으면_요청_순서대로_담을_수_있는_주문만_투자된다() {
+		List<ResultMessage> results = bulkInvestService.investAll(Arrays.asList(
+				entry(user, product, INVEST_AMOUNT * 3),
+				entry(user2, product, INVEST_AMOUNT),
+				entry(user2, product, INVEST_AMOUNT_LIMIT - INVEST_AMOUNT * 3),
+				entry(user, product, INVEST_AMOUNT)));
+
+		assertThat(results).extracting(ResultMessage::getResultCode).containsExactly(
+				Message.COMPLETE.getMessageCode(),
+				Message.OVERFLOW_INVESTABLE_AMOUNT.getMessageCode(),
+				Message.COMPLETELY_SOLD_OUT.getMessageCode(),
+				Message.WAS_SOLD_OUT.getMessageCode());
+		assertThat(results.get(1)).hasFieldOrPropertyWithValue("investableAmount", INVEST_AMOUNT_LIMIT - INVEST_AMOUNT * 3);
+
+		assertThat(productRepo.findByProductId(product.getProductId()).getCurrentlyInvestedAmount()).isEqualTo(INVEST_AMOUNT_LIMIT);
+		assertThat(soldOutRegistry.isSoldOut(product.getProductId())).isTrue();
+	}
+
+	@Test
+	public void 검증에_실패한_항목만_결과_메시지를_반환한다() {
+		List<ResultMessage> results = bulkInvestService.investAll(Arrays.asList(
+				entry(user, product, 0),
+				InvestEntry.of(NOT_EXISTS_ID, product.getProductId(), INVEST_AMOUNT),
+				InvestEntry.of(user.getUserId(), NOT_EXISTS_ID, INVEST_AMOUNT),
+				entry(user2, product, INVEST_AMOUNT)));
+
+		assertThat(results).extracting(ResultMessage::getResultCode).containsExactly(
+				Message.INVESTING_AMOUNT_LESS_THAN_ZERO.getMessageCode(),
+				Message.NOT_EXISTS_USER_ID.getMessageCode(),
+				Message.MISMATCHED_PRODUCT_ID.getMessageCode(),
+				Message.COMPLETE.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 최대_주문_수를_넘으면_투자하지_않는다() throws Exception {
+		List<ResultMessage> results = bulkInvestService.investAllAsync(Collections.nCopies(1001, entry(user, product, 1))).get();
+
+		assertThat(results).hasSize(1001).extracting(ResultMessage::getResultCode).containsOnly(Message.TOO_MANY_INVEST_ENTRIES.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).isEmpty();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private static InvestEntry entry(User user, Product product, int investingAmount) {
+		return InvestEntry.of(user.getUserId(), product.getProductId(), investingAmount);
+	}
+}
@@ -0,0 +1,151 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties="invest.order.write-mode=group-commit")
+public class GroupCommitInvestTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 7_000;
+	final int THREADS = 32;
+	final int ORDERS_PER_THREAD = 10;
+
+	private Product product;
+	private User user;
+	private User user2;
+
+	@Autowired
+	private InvestService investService;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private InvestFixture investFixture;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		product = investFixture.saveProduct(INVEST_AMOUNT_LIMIT);
+		user    = investFixture.saveUser();
+		user2   = investFixture.saveUser();
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investFixture.delete(product, user, user2);
+	}
+
+	@Test
+	public void 투자는_commit_후에_완료된다() {
+		ResultMessage result = investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+
+		assertThat(result.getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+		assertThat(productRepo.findByProductId(product.getProductId()).getNumberOfInvestors()).isEqualTo(1);
+	}
+
+	@Test
+	public void 비동기_투자는_commit_후에_완료된다() throws Exception {
+		ResultMessage result = investService.investToProductAsync(user.getUserId(), product.getProductId(), INVEST_AMOUNT).get(10, TimeUnit.SECONDS);
+
+		assertThat(result.getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 원장과_DB가_어긋나_거절되면_DB_기준_투자가능_금액을_반환한다() {
+		investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);	// 원장 적재
+		investByOtherInstance(INVEST_AMOUNT_LIMIT - INVEST_AMOUNT * 2);
+
+		ResultMessage overflowed = investService.investToProduct(user2.getUserId(), product.getProductId(), INVEST_AMOUNT * 2);
+		assertThat(overflowed.getResultCode()).isEqualTo(Message.OVERFLOW_INVESTABLE_AMOUNT.getMessageCode());
+		assertThat(overflowed).hasFieldOrPropertyWithValue("investableAmount", INVEST_AMOUNT);
+
+		ResultMessage completed = investService.investToProduct(user2.getUserId(), product.getProductId(), INVEST_AMOUNT);
+		assertThat(completed.getResultCode()).isEqualTo(Message.COMPLETELY_SOLD_OUT.getMessageCode());
+	}
+
+	@Test
+	public void 원장과_DB가_어긋나_DB에서_매진이면_매진_메시지를_반환한다() {
+		investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);	// 원장 적재
+		investByOtherInstance(INVEST_AMOUNT_LIMIT - INVEST_AMOUNT);
+
+		ResultMessage result = investService.investToProduct(user2.getUserId(), product.getProductId(), INVEST_AMOUNT);
+		assertThat(result.getResultCode()).isEqualTo(Message.WAS_SOLD_OUT.getMessageCode());
+	}
+
+	@Test
+	public void 동시_투자가_한번에_commit되어도_초과_모집되지_않는다() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final List<Future<Integer>> completedAmounts = new ArrayList<>();
+
+		for(int i = 0; i < THREADS; i++) {
+			final User investor = i % 2 == 0 ? user : user2;
+
+			completedAmounts.add(executor.submit(() -> {
+				startSignal.await();
+				return InvestFixture.investRepeatedly(investService, investor.getUserId(), product.getProductId(), INVEST_AMOUNT, ORDERS_PER_THREAD);
+			}));
+		}
+		startSignal.countDown();
+
+		int totalCompletedAmount = 0;
+		for(Future<Integer> completedAmount : completedAmounts) {
+			totalCompletedAmount += completedAmount.get(1, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		final int totalOrderedAmount = investOrderRepo.findAllByProduct(product).stream().mapToInt(InvestOrder::getInvestingAmount).sum();
+		final Product investedProduct = productRepo.findByProductId(product.getProductId());
+
+		assertThat(totalOrderedAmount).isEqualTo(totalCompletedAmount);
+		assertThat(totalOrderedAmount).isLessThanOrEqualTo(INVEST_AMOUNT_LIMIT);
+		assertThat(INVEST_AMOUNT_LIMIT - totalOrderedAmount).isLessThan(INVEST_AMOUNT);
+		assertThat(investedProduct.getCurrentlyInvestedAmount()).isEqualTo(totalOrderedAmount);
+		assertThat(investedProduct.getNumberOfInvestors()).isEqualTo(2);
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	// 다른 인스턴스의 투자 (이 인스턴스의 원장에는 반영되지 않음)
+	private void investByOtherInstance(int investingAmount) {
+		transactionTemplate.executeWithoutResult(status -> {
+			productRepo.addInvestedAmount(product.getProductId(), investingAmount);
+			investOrderRepo.save(InvestOrder.of(user, product, investingAmount, investingAmount));
+		});
+	}
+}
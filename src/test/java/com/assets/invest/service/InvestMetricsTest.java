@@ -0,0 +1,63 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class InvestMetricsTest {
+	final String NONE = "none";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final InvestMetrics investMetrics = new InvestMetrics(meterRegistry);
+
+	@Test
+	public void 투자_결과는_결과_코드별로_집계된다() {
+		investMetrics.countResult(CompletableFuture.completedFuture(ResultMessage.of(Message.COMPLETE)));
+		investMetrics.countResult(CompletableFuture.completedFuture(ResultMessage.of(Message.COMPLETE)));
+		investMetrics.countResult(CompletableFuture.completedFuture(ResultMessage.of(Message.WAS_SOLD_OUT)));
+
+		assertThat(resultCount(Message.COMPLETE.getMessageCode(), NONE)).isEqualTo(2);
+		assertThat(resultCount(Message.WAS_SOLD_OUT.getMessageCode(), NONE)).isEqualTo(1);
+	}
+
+	@Test
+	public void 예외로_끝난_투자는_예외_이름으로_집계된다() {
+		CompletableFuture<ResultMessage> result = new CompletableFuture<>();
+		investMetrics.countResult(result.thenApply(message -> message));
+
+		result.completeExceptionally(new DataIntegrityViolationException("FK_INVEST_ORDER_USER"));
+
+		assertThat(resultCount(NONE, DataIntegrityViolationException.class.getSimpleName())).isEqualTo(1);
+	}
+
+	@Test
+	public void 단계별_소요_시간이_기록된다() {
+		int investableAmount = investMetrics.record(InvestMetrics.RESERVE, () -> 1000);
+		investMetrics.record(InvestMetrics.LOCK_WAIT, () -> { });
+
+		assertThat(investableAmount).isEqualTo(1000);
+		assertThat(meterRegistry.get(InvestMetrics.PHASE_TIMER).tag("phase", InvestMetrics.RESERVE).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(InvestMetrics.PHASE_TIMER).tag("phase", InvestMetrics.LOCK_WAIT).timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void 단계별_Timer는_생성_시_등록된다() {
+		for(String phase : InvestMetrics.PHASES) {
+			assertThat(meterRegistry.get(InvestMetrics.PHASE_TIMER).tag("phase", phase).timer().count()).isZero();
+		}
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private double resultCount(String code, String exception) {
+		return meterRegistry.get(InvestMetrics.RESULT_COUNTER).tag("code", code).tag("exception", exception).counter().count();
+	}
+}
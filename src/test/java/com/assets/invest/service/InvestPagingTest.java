@@ -0,0 +1,95 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.InvestPage;
+import com.assets.invest.enums.Message;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class InvestPagingTest {
+	final int NUMBER_OF_PRODUCTS = 3;
+	final int PAGE_SIZE = 2;
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+
+	private final List<Product> products = new ArrayList<>();
+	private User user;
+
+	@Autowired
+	private InvestService investService;
+
+	@Autowired
+	private InvestFixture investFixture;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		for(int i = 0; i < NUMBER_OF_PRODUCTS; i++) {
+			products.add(investFixture.saveProduct(InvestFixture.PRODUCT_NM + i, INVEST_AMOUNT_LIMIT));
+		}
+		user = investFixture.saveUser();
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investFixture.delete(products, Collections.singletonList(user));
+	}
+
+	@Test
+	public void 나의_투자상품은_마지막_상품_다음부터_페이지_조회된다() {
+		for(Product product : products) {
+			investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+		}
+
+		InvestPage firstPage = investService.getInvestedProductsAfter(user.getUserId(), 0, PAGE_SIZE);
+		assertThat(firstPage.getRows()).extracting("productId").containsExactly(products.get(0).getProductId(), products.get(1).getProductId());
+		assertThat(firstPage.getLastProductId()).isEqualTo(products.get(1).getProductId());
+
+		InvestPage lastPage = investService.getInvestedProductsAfter(user.getUserId(), firstPage.getLastProductId(), PAGE_SIZE);
+		assertThat(lastPage.getRows()).extracting("productId").containsExactly(products.get(2).getProductId());
+		assertThat(lastPage.hasNext()).isFalse();
+	}
+
+	@Test
+	public void 투자_상품은_마지막_상품_다음부터_페이지_조회된다() {
+		final int lastProductId = products.get(0).getProductId();
+
+		InvestPage page = investService.getProductsAfter(lastProductId, PAGE_SIZE);
+
+		assertThat(page.getRows()).extracting("productId").containsExactly(products.get(1).getProductId(), products.get(2).getProductId());
+	}
+
+	@Test
+	public void 첫_페이지에_투자이력이_없으면_메시지를_반환한다() {
+		InvestPage page = investService.getInvestedProductsAfter(user.getUserId(), 0, PAGE_SIZE);
+
+		assertThat(page.getRows()).extracting("resultCode").containsExactly(Message.NO_INVESTED_EVER.getMessageCode());
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	public void 페이지_크기는_최대_크기로_보정된다() {
+		for(Product product : products) {
+			investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+		}
+
+		assertThat(investService.getInvestedProductsAfter(user.getUserId(), 0, Integer.MAX_VALUE).getRows()).hasSize(NUMBER_OF_PRODUCTS);
+		assertThat(investService.getInvestedProductsAfter(user.getUserId(), 0, 0).getRows()).hasSize(1);
+	}
+}
@@ -0,0 +1,184 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.ProductInvestor;
+import com.assets.invest.domain.User;
+import com.assets.invest.dto.ProductView;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductInvestorRepository;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class InvestServiceTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+	final String PRODUCT_NM = "부동산 포트폴리오";
+	final String USER_NAME = "앨런머스크";
+	final String USER_PASSWORD = "4321";
+
+	private Product product;
+	private User user;
+	private User user2;
+
+	@Autowired
+	private InvestService investService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private ProductRepository productRepo;
+
+	@Autowired
+	private InvestOrderRepository investOrderRepo;
+
+	@Autowired
+	private ProductInvestorRepository productInvestorRepo;
+
+	@Autowired
+	private SoldOutRegistry soldOutRegistry;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		final Date finishedAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7));
+
+		product = productRepo.save(new Product(PRODUCT_NM, INVEST_AMOUNT_LIMIT, new Date(), finishedAt));
+		user    = userRepo.save(new User(USER_NAME, USER_PASSWORD));
+		user2   = userRepo.save(new User(USER_NAME, USER_PASSWORD));
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investOrderRepo.deleteAll(investOrderRepo.findAllByProduct(product));
+		productInvestorRepo.delete(new ProductInvestor(product.getProductId(), user.getUserId()));
+		productInvestorRepo.delete(new ProductInvestor(product.getProductId(), user2.getUserId()));
+		productRepo.delete(product);
+		userRepo.delete(user);
+		userRepo.delete(user2);
+	}
+
+	@Test
+	public void 투자하면_누적_투자금액과_투자자수가_증가한다() {
+		invest(user, INVEST_AMOUNT);
+		invest(user, INVEST_AMOUNT);
+		invest(user2, INVEST_AMOUNT);
+
+		Product investedProduct = productRepo.findByProductId(product.getProductId());
+		assertThat(investedProduct.getCurrentlyInvestedAmount()).isEqualTo(INVEST_AMOUNT * 3);
+		assertThat(investedProduct.getNumberOfInvestors()).isEqualTo(2);
+	}
+
+	@Test
+	public void 투자가능_금액을_초과하면_투자되지_않는다() {
+		invest(user, INVEST_AMOUNT * 3);
+
+		ResultMessage result = invest(user2, INVEST_AMOUNT);
+		assertThat(result.getResultCode()).isEqualTo(Message.OVERFLOW_INVESTABLE_AMOUNT.getMessageCode());
+		assertThat(result).hasFieldOrPropertyWithValue("investableAmount", INVEST_AMOUNT_LIMIT - INVEST_AMOUNT * 3);
+	}
+
+	@Test
+	public void 모집금액을_채우면_매진된다() {
+		ResultMessage soldOut = invest(user, INVEST_AMOUNT_LIMIT);
+		assertThat(soldOut.getResultCode()).isEqualTo(Message.COMPLETELY_SOLD_OUT.getMessageCode());
+
+		ResultMessage afterSoldOut = invest(user2, INVEST_AMOUNT);
+		assertThat(afterSoldOut.getResultCode()).isEqualTo(Message.WAS_SOLD_OUT.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT_LIMIT);
+	}
+
+	@Test
+	public void 매진된_상품은_모집금액을_늘리면_다시_투자할_수_있다() {
+		invest(user, INVEST_AMOUNT_LIMIT);
+		assertThat(soldOutRegistry.isSoldOut(product.getProductId())).isTrue();
+
+		Product soldOutProduct = productRepo.findByProductId(product.getProductId());
+		assertThat(soldOutProduct.setTotalInvestingAmountSafely(INVEST_AMOUNT_LIMIT * 2)).isTrue();
+		productRepo.save(soldOutProduct);
+		assertThat(soldOutRegistry.isSoldOut(product.getProductId())).isFalse();
+
+		ResultMessage result = invest(user2, INVEST_AMOUNT);
+		assertThat(result.getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+	}
+
+	@Test
+	public void 매진시킨_투자가_rollback되면_이후_투자할_수_있다() {
+		transactionTemplate.executeWithoutResult(status -> {
+			assertThat(invest(user, INVEST_AMOUNT_LIMIT).getResultCode()).isEqualTo(Message.COMPLETELY_SOLD_OUT.getMessageCode());
+			assertThat(invest(user2, INVEST_AMOUNT).getResultCode()).isEqualTo(Message.WAS_SOLD_OUT.getMessageCode());	// commit 전의 매진 확인
+			status.setRollbackOnly();
+		});
+		assertThat(soldOutRegistry.isSoldOut(product.getProductId())).isFalse();
+
+		ResultMessage result = invest(user2, INVEST_AMOUNT);
+		assertThat(result.getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 비동기_투자는_트랜잭션_안에서_수행된다() throws Exception {
+		ResultMessage result = investService.investToProductAsync(user.getUserId(), product.getProductId(), INVEST_AMOUNT).get(10, TimeUnit.SECONDS);
+
+		assertThat(result.getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+		assertThat(productRepo.findByProductId(product.getProductId()).getNumberOfInvestors()).isEqualTo(1);
+		assertThat(investOrderRepo.findAllByProduct(product)).extracting(InvestOrder::getInvestingAmount).containsExactly(INVEST_AMOUNT);
+	}
+
+	@Test
+	public void 전체_상품_조회시_누적_투자금액이_조회된다() {
+		invest(user, INVEST_AMOUNT);
+
+		assertThat(investService.getAllProducts())
+			.filteredOn(view -> view instanceof ProductView && ((ProductView) view).getProductId() == product.getProductId())
+			.extracting("currentlyInvestedAmount", "numberOfInvestors")
+			.containsExactly(tuple(INVEST_AMOUNT, 1));
+	}
+
+	@Test
+	public void 나의_투자상품_조회시_상품별로_집계된다() {
+		invest(user, INVEST_AMOUNT);
+		invest(user, INVEST_AMOUNT);
+		invest(user2, INVEST_AMOUNT);
+
+		assertThat(investService.getAllInvestedProducts(user.getUserId()))
+			.extracting("productId", "totalInvestingAmount", "myInvestedAmount")
+			.containsExactly(tuple(product.getProductId(), INVEST_AMOUNT * 3, (long) INVEST_AMOUNT * 2));
+	}
+
+	@Test
+	public void 투자이력이_없으면_메시지를_반환한다() {
+		assertThat(investService.getAllInvestedProducts(user.getUserId()))
+			.extracting("resultCode")
+			.containsExactly(Message.NO_INVESTED_EVER.getMessageCode());
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private ResultMessage invest(User investor, int investingAmount) {
+		return investService.investToProduct(investor.getUserId(), product.getProductId(), investingAmount);
+	}
+}
@@ -0,0 +1,100 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.assets.invest.persistence.InvestOrderRow;
+import com.assets.invest.persistence.ProductSummary;
+
+public class InvestStatisticsStoreTest {
+	final int PRODUCT_ID = 101;
+	final int OTHER_PRODUCT_ID = 102;
+	final int USER_ID = 10001;
+	final int OTHER_USER_ID = 10002;
+	final String PRODUCT_NM = "부동산 포트폴리오";
+
+	private final InvestStatisticsStore store = new InvestStatisticsStore();
+
+	@Test
+	public void 상품별_누적_금액과_중복_제거된_투자자_수를_구한다() {
+		store.record(orderOf(PRODUCT_ID, USER_ID, 1000, 1L));
+		store.record(orderOf(PRODUCT_ID, USER_ID, 2000, 2L));
+		store.record(orderOf(PRODUCT_ID, OTHER_USER_ID, 3000, 3L));
+
+		ProductSummary product = store.withStatistics(productOf(PRODUCT_ID));
+
+		assertThat(product.getCurrentlyInvestedAmount()).isEqualTo(6000);
+		assertThat(product.getNumberOfInvestors()).isEqualTo(2);
+		assertThat(product.getTotalInvestingAmount()).isEqualTo(10000);
+	}
+
+	@Test
+	public void 비활성화되면_commit된_주문을_반영하지_않는다() {
+		store.onOrderCommitted(orderOf(PRODUCT_ID, USER_ID, 1000, 1L));
+
+		assertThat(store.withStatistics(productOf(PRODUCT_ID)).getCurrentlyInvestedAmount()).isZero();
+		assertThat(store.portfolioOf(USER_ID)).isEmpty();
+	}
+
+	@Test
+	public void 투자_이력이_없는_상품은_0으로_조회된다() {
+		ProductSummary product = store.withStatistics(productOf(OTHER_PRODUCT_ID));
+
+		assertThat(product.getCurrentlyInvestedAmount()).isZero();
+		assertThat(product.getNumberOfInvestors()).isZero();
+	}
+
+	@Test
+	public void 나의_투자상품은_상품별_투자_금액과_최초_투자_일시로_집계된다() {
+		store.record(orderOf(OTHER_PRODUCT_ID, USER_ID, 500, 20L));
+		store.record(orderOf(PRODUCT_ID, USER_ID, 1000, 10L));
+		store.record(orderOf(PRODUCT_ID, USER_ID, 2000, 5L));
+		store.record(orderOf(PRODUCT_ID, OTHER_USER_ID, 3000, 1L));
+
+		assertThat(store.portfolioOf(USER_ID))
+			.extracting("productId", "totalInvestingAmount", "myInvestedAmount", "investedAt")
+			.containsExactly(tuple(PRODUCT_ID, 6000, 3000L, new Date(5L)), tuple(OTHER_PRODUCT_ID, 500, 500L, new Date(20L)));
+		assertThat(store.portfolioOf(USER_ID + 100)).isEmpty();
+	}
+
+	@Test
+	public void 투자_일시가_없는_주문은_현재_시각으로_집계된다() {
+		final long startedAt = System.currentTimeMillis();
+
+		store.record(orderOf(PRODUCT_ID, USER_ID, 1000, null));
+
+		assertThat(store.portfolioOf(USER_ID).get(0).getInvestedAt().getTime()).isBetween(startedAt, System.currentTimeMillis());
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private OrderCommittedEvent orderOf(int productId, int userId, int investingAmount, long investedAt) {
+		return orderOf(productId, userId, investingAmount, new Date(investedAt));
+	}
+
+	private OrderCommittedEvent orderOf(int productId, int userId, int investingAmount, Date investedAt) {
+		return OrderCommittedEvent.of(new InvestOrderRow() {
+			public int getProductId() { return productId; }
+			public String getProductNm() { return PRODUCT_NM; }
+			public int getUserId() { return userId; }
+			public int getInvestingAmount() { return investingAmount; }
+			public Date getInvestedAt() { return investedAt; }
+		});
+	}
+
+	private ProductSummary productOf(int productId) {
+		return new ProductSummary() {
+			public int getProductId() { return productId; }
+			public String getProductNm() { return PRODUCT_NM; }
+			public int getTotalInvestingAmount() { return 10000; }
+			public int getCurrentlyInvestedAmount() { return -1; }
+			public int getNumberOfInvestors() { return -1; }
+			public Date getStartedAt() { return new Date(); }
+			public Date getFinishedAt() { return new Date(); }
+		};
+	}
+}
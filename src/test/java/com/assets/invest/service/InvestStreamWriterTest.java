@@ -0,0 +1,86 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.enums.Message;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class InvestStreamWriterTest {
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final int INVEST_AMOUNT = 300_000;
+
+	private Product product;
+	private User user;
+
+	@Autowired
+	private InvestStreamWriter investStreamWriter;
+
+	@Autowired
+	private InvestService investService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private InvestFixture investFixture;
+
+
+	@Before
+	public void 투자_데이터_셋업() {
+		product = investFixture.saveProduct(INVEST_AMOUNT_LIMIT);
+		user    = investFixture.saveUser();
+	}
+
+	@After
+	public void 투자_데이터_삭제() {
+		investFixture.delete(product, user);
+	}
+
+	@Test
+	public void Streaming_전체_상품_조회는_List_조회와_같은_응답을_출력한다() throws Exception {
+		investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		investStreamWriter.writeAllProducts(out);
+
+		assertThat(out.toString("UTF-8")).isEqualTo(objectMapper.writeValueAsString(investService.getAllProducts()));
+	}
+
+	@Test
+	public void Streaming_나의_투자상품_조회는_List_조회와_같은_응답을_출력한다() throws Exception {
+		investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+		investService.investToProduct(user.getUserId(), product.getProductId(), INVEST_AMOUNT);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		investStreamWriter.writeAllInvestedProducts(user.getUserId(), out);
+
+		assertThat(out.toString("UTF-8")).isEqualTo(objectMapper.writeValueAsString(investService.getAllInvestedProducts(user.getUserId())));
+		assertThat(objectMapper.readTree(out.toByteArray()).get(0).get("myInvestedAmount").asLong()).isEqualTo(INVEST_AMOUNT * 2L);
+	}
+
+	@Test
+	public void Streaming_투자이력이_없으면_메시지를_출력한다() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		investStreamWriter.writeAllInvestedProducts(user.getUserId(), out);
+
+		JsonNode written = objectMapper.readTree(out.toByteArray());
+		assertThat(written.size()).isEqualTo(1);
+		assertThat(written.get(0).get("RESULT_CODE").asText()).isEqualTo(Message.NO_INVESTED_EVER.getMessageCode());
+	}
+}
@@ -0,0 +1,114 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.assets.invest.InvestApplication;
+import com.assets.invest.InvestFixture;
+import com.assets.invest.domain.InvestOrder;
+import com.assets.invest.domain.Product;
+import com.assets.invest.domain.User;
+import com.assets.invest.persistence.InvestOrderRepository;
+import com.assets.invest.persistence.ProductRepository;
+import com.assets.invest.persistence.UserRepository;
+
+/**
+ * 하나의 H2 서버를 공유하는 2개의 애플리케이션 인스턴스에서
+ * 동일 상품에 동시 투자하여도 모집 한도를 초과하지 않는지 검증한다.
+ */
+public class MultiInstanceInvestTest {
+	static final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	static final int INVEST_AMOUNT = 7_000;
+	static final int THREADS_PER_INSTANCE = 32;
+	static final int ORDERS_PER_THREAD = 10;
+
+	static Server h2Server;
+	static List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+	@BeforeClass
+	public static void 인스턴스_기동() throws Exception {
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		for(String mode : new String[] {"database", "local"}) {
+			instances.add(startInstance(mode));
+		}
+	}
+
+	@AfterClass
+	public static void 인스턴스_종료() {
+		instances.forEach(ConfigurableApplicationContext::close);
+		h2Server.stop();
+	}
+
+	@Test
+	public void 다수_인스턴스에서_동시_투자해도_초과_모집되지_않는다() throws Exception {
+		final ProductRepository productRepo = instances.get(0).getBean(ProductRepository.class);
+		final UserRepository userRepo = instances.get(0).getBean(UserRepository.class);
+		final Date finishedAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7));
+
+		final Product product = productRepo.save(new Product("개인신용 포트폴리오", INVEST_AMOUNT_LIMIT, new Date(), finishedAt));
+		final User user = userRepo.save(new User("앨런머스크", "4321"));
+
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS_PER_INSTANCE * instances.size());
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final List<Future<Integer>> completedAmounts = new ArrayList<>();
+
+		for(ConfigurableApplicationContext instance : instances) {
+			final InvestService investService = instance.getBean(InvestService.class);
+
+			for(int i = 0; i < THREADS_PER_INSTANCE; i++) {
+				completedAmounts.add(executor.submit(() -> {
+					startSignal.await();
+					return InvestFixture.investRepeatedly(investService, user.getUserId(), product.getProductId(), INVEST_AMOUNT, ORDERS_PER_THREAD);
+				}));
+			}
+		}
+
+		startSignal.countDown();
+
+		int totalCompletedAmount = 0;
+		for(Future<Integer> completedAmount : completedAmounts) {
+			totalCompletedAmount += completedAmount.get(2, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		final int totalOrderedAmount = instances.get(0).getBean(InvestOrderRepository.class)
+				.findAllByProduct(product)
+				.stream()
+				.mapToInt(InvestOrder::getInvestingAmount)
+				.sum();
+		final Product investedProduct = productRepo.findByProductId(product.getProductId());
+
+		assertThat(totalOrderedAmount).isLessThanOrEqualTo(INVEST_AMOUNT_LIMIT);
+		assertThat(totalOrderedAmount).isEqualTo(totalCompletedAmount);
+		assertThat(investedProduct.getCurrentlyInvestedAmount()).isEqualTo(totalOrderedAmount);
+		assertThat(INVEST_AMOUNT_LIMIT - totalOrderedAmount).isLessThan(INVEST_AMOUNT); // 잔액이 남아있지 않을 만큼 모집됨
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private static ConfigurableApplicationContext startInstance(String admissionMode) {
+		return new SpringApplicationBuilder(InvestApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties("spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:multiInstance;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+						, "spring.jpa.show-sql=false"
+						, "invest.admission.mode=" + admissionMode)
+				.run();
+	}
+}
@@ -0,0 +1,97 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+
+public class ProductAdmissionTest {
+	final int PRODUCT_ID = 1001;
+
+	private final ProductAdmission admission = new ProductAdmission(1, 1);
+	private final AtomicInteger startedCount = new AtomicInteger();
+
+	@Test
+	public void 제한을_넘은_요청은_앞선_투자가_끝난_후_시작된다() {
+		CompletableFuture<ResultMessage> first = new CompletableFuture<>();
+
+		admission.admit(PRODUCT_ID, started(first));
+		CompletableFuture<ResultMessage> second = admission.admit(PRODUCT_ID, started(CompletableFuture.completedFuture(ResultMessage.of(Message.COMPLETE))));
+
+		assertThat(startedCount).hasValue(1);
+		assertThat(admission.waitingCount(PRODUCT_ID)).isEqualTo(1);
+		assertThat(admission.totalRunningCount()).isEqualTo(1);
+		assertThat(admission.totalWaitingCount()).isEqualTo(1);
+
+		first.complete(ResultMessage.of(Message.COMPLETE));
+
+		assertThat(startedCount).hasValue(2);
+		assertThat(second.join().getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+	}
+
+	@Test
+	public void 대기열이_가득_차면_즉시_거절된다() {
+		admission.admit(PRODUCT_ID, started(new CompletableFuture<>()));
+		admission.admit(PRODUCT_ID, started(new CompletableFuture<>()));
+
+		CompletableFuture<ResultMessage> rejected = admission.admit(PRODUCT_ID, started(new CompletableFuture<>()));
+
+		assertThat(rejected.join().getResultCode()).isEqualTo(Message.INVEST_REQUEST_REJECTED.getMessageCode());
+		assertThat(startedCount).hasValue(1);
+	}
+
+	@Test
+	public void 매진이_확인되면_대기_중인_요청은_매진으로_거절된다() {
+		CompletableFuture<ResultMessage> first = new CompletableFuture<>();
+
+		admission.admit(PRODUCT_ID, started(first));
+		CompletableFuture<ResultMessage> waiting = admission.admit(PRODUCT_ID, started(new CompletableFuture<>()));
+
+		first.complete(ResultMessage.of(Message.COMPLETELY_SOLD_OUT));
+
+		assertThat(waiting.join().getResultCode()).isEqualTo(Message.WAS_SOLD_OUT.getMessageCode());
+		assertThat(startedCount).hasValue(1);
+	}
+
+	@Test
+	public void 투자가_실패해도_다음_요청은_시작된다() {
+		CompletableFuture<ResultMessage> failed = admission.admit(PRODUCT_ID, () -> {
+			throw new IllegalStateException("invest executor queue is full");
+		});
+
+		CompletableFuture<ResultMessage> next = admission.admit(PRODUCT_ID, started(CompletableFuture.completedFuture(ResultMessage.of(Message.COMPLETE))));
+
+		assertThat(failed).isCompletedExceptionally();
+		assertThat(next.join().getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+	}
+
+	@Test
+	public void 투자가_모두_끝난_상품의_Gate는_제거된다() {
+		CompletableFuture<ResultMessage> first = new CompletableFuture<>();
+
+		admission.admit(PRODUCT_ID, started(first));
+		admission.admit(PRODUCT_ID + 1, started(CompletableFuture.completedFuture(ResultMessage.of(Message.MISMATCHED_PRODUCT_ID))));
+		assertThat(admission.gateCount()).isEqualTo(1);
+
+		first.complete(ResultMessage.of(Message.COMPLETE));
+		assertThat(admission.gateCount()).isZero();
+
+		CompletableFuture<ResultMessage> next = admission.admit(PRODUCT_ID, started(CompletableFuture.completedFuture(ResultMessage.of(Message.COMPLETE))));
+		assertThat(next.join().getResultCode()).isEqualTo(Message.COMPLETE.getMessageCode());
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private Supplier<CompletableFuture<ResultMessage>> started(CompletableFuture<ResultMessage> investing) {
+		return () -> {
+			startedCount.incrementAndGet();
+			return investing;
+		};
+	}
+}
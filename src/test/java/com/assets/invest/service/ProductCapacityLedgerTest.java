@@ -0,0 +1,135 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.assets.invest.domain.Product;
+import com.assets.invest.persistence.InvestOrderRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductCapacityLedgerTest {
+	final int PRODUCT_ID = 1001;
+	final int INVEST_AMOUNT_LIMIT = 1_000_000;
+	final long ALREADY_INVESTED_AMOUNT = 700_000;
+
+	@Mock
+	private InvestOrderRepository investOrderRepo;
+
+	@InjectMocks
+	private ProductCapacityLedger capacityLedger;
+
+	private Product product;
+
+	@Before
+	public void 상품_셋업() {
+		product = new Product("개인신용 포트폴리오", INVEST_AMOUNT_LIMIT, new Date(), new Date());
+		ReflectionTestUtils.setField(product, "productId", PRODUCT_ID);
+
+		when(investOrderRepo.sumInvestingAmountByProductId(PRODUCT_ID)).thenReturn(ALREADY_INVESTED_AMOUNT);
+	}
+
+	@After
+	public void 트랜잭션_동기화_정리() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void 원장은_DB_투자금액으로_한번만_초기화된다() {
+		capacityLedger.tryReserve(product, 100_000);
+		capacityLedger.tryReserve(product, 100_000);
+
+		assertThat(capacityLedger.remainingAmount(product)).isEqualTo(100_000);
+		verify(investOrderRepo, times(1)).sumInvestingAmountByProductId(PRODUCT_ID);
+	}
+
+	@Test
+	public void 투자가능_금액_초과시_예약되지_않는다() {
+		assertThat(capacityLedger.tryReserve(product, 400_000)).isEqualTo(300_000);
+		assertThat(capacityLedger.remainingAmount(product)).isEqualTo(300_000);
+	}
+
+	@Test
+	public void 매진되면_투자가능_금액은_0이다() {
+		capacityLedger.tryReserve(product, 300_000);
+
+		assertThat(capacityLedger.tryReserve(product, 1)).isZero();
+	}
+
+	@Test
+	public void rollback되면_예약금을_환불한다() {
+		TransactionSynchronizationManager.initSynchronization();
+		capacityLedger.tryReserve(product, 300_000);
+
+		for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+
+		assertThat(capacityLedger.remainingAmount(product)).isEqualTo(300_000);
+	}
+
+	@Test
+	public void rollback된_예약금은_상품_Lock_해제_전에_환불된다() throws Exception {
+		final ProductLockRegistry productLocks = new ProductLockRegistry(1);
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final CountDownLatch firstReserved = new CountDownLatch(1);
+		final CountDownLatch secondReserved = new CountDownLatch(1);
+
+		TransactionSynchronizationManager.initSynchronization();
+		productLocks.lockUntilCompletion(PRODUCT_ID);
+		capacityLedger.tryReserve(product, 300_000);	// 매진될 금액 예약
+		firstReserved.countDown();
+
+		// 두번째 트랜잭션은 첫번째 트랜잭션이 끝날 때까지 Lock을 기다린 뒤 예약한다.
+		Future<Integer> secondInvestable = executor.submit(() -> {
+			firstReserved.await();
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				productLocks.lockUntilCompletion(PRODUCT_ID);
+				return capacityLedger.tryReserve(product, 300_000);
+			} finally {
+				secondReserved.countDown();
+				completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+		});
+
+		// 동기화 콜백마다 두번째 트랜잭션이 끼어들 시간을 준다.
+		for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			secondReserved.await(200, TimeUnit.MILLISECONDS);
+		}
+
+		assertThat(secondInvestable.get(5, TimeUnit.SECONDS)).isEqualTo(300_000);
+		executor.shutdown();
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private static void completeTransaction(int status) {
+		for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(status);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.assets.invest.dto.InvestResponse;
+import com.assets.invest.dto.ResultMessage;
+import com.assets.invest.enums.Message;
+import com.assets.invest.persistence.ProductRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductListingCacheTest {
+	final Duration TTL = Duration.ofSeconds(10);
+
+	@Mock
+	private ProductRepository productRepo;
+
+	private final AtomicLong ticker = new AtomicLong();
+	private final AtomicInteger loadCount = new AtomicInteger();
+	private final Function<Date, List<InvestResponse>> loader = now -> {
+		loadCount.incrementAndGet();
+		return new ArrayList<>(Collections.singletonList(ResultMessage.of(Message.NOT_INVESTABLE_PRODUCT)));
+	};
+
+	private ProductListingCache listingCache;
+
+	@Before
+	public void 캐시_셋업() {
+		listingCache = new ProductListingCache(productRepo, TTL, ticker::get);
+	}
+
+	@After
+	public void 트랜잭션_동기화_정리() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void TTL_이내의_조회는_DB를_다시_조회하지_않는다() {
+		listingCache.get(loader);
+		advance(TimeUnit.SECONDS.toNanos(9));
+		listingCache.get(loader);
+
+		assertThat(loadCount).hasValue(1);
+
+		advance(TimeUnit.SECONDS.toNanos(2));
+		listingCache.get(loader);
+
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	public void 모집_시작_시각이_도래하면_다시_조회한다() {
+		when(productRepo.findNextStartedAt(any())).thenReturn(new Date(System.currentTimeMillis() + 100));
+
+		listingCache.get(loader);
+		advance(TimeUnit.MILLISECONDS.toNanos(200));
+		listingCache.get(loader);
+
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	public void 투자가_commit된_후에_무효화된다() {
+		listingCache.get(loader);
+
+		TransactionSynchronizationManager.initSynchronization();
+		listingCache.evictAfterCommit();
+		listingCache.get(loader);
+
+		assertThat(loadCount).hasValue(1);
+
+		for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCommit();
+		}
+		listingCache.get(loader);
+
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void 캐시된_목록은_변경할_수_없다() {
+		listingCache.get(loader).add(ResultMessage.of(Message.NOT_INVESTABLE_PRODUCT));
+	}
+
+	//////////////////////////////////////////////////////////////////////////////////
+
+	private void advance(long nanos) {
+		ticker.addAndGet(nanos);
+	}
+}
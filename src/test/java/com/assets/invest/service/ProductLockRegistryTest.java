@@ -0,0 +1,58 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ProductLockRegistryTest {
+	final int PRODUCT_ID = 1001;
+
+	private final ProductLockRegistry productLocks = new ProductLockRegistry(8);
+
+	@After
+	public void 트랜잭션_동기화_정리() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void Stripe_개수는_2의_거듭제곱이다() {
+		assertThat(new ProductLockRegistry(5).getStripeCount()).isEqualTo(8);
+		assertThat(new ProductLockRegistry(64).getStripeCount()).isEqualTo(64);
+	}
+
+	@Test
+	public void 동일_상품은_동일_Lock을_사용한다() {
+		assertThat(productLocks.lockOf(PRODUCT_ID)).isSameAs(productLocks.lockOf(PRODUCT_ID));
+	}
+
+	@Test
+	public void 트랜잭션_밖에서는_Lock을_획득할_수_없다() {
+		assertThatThrownBy(() -> productLocks.lockUntilCompletion(PRODUCT_ID)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void 트랜잭션_종료시점까지_Lock을_점유한다() throws Exception {
+		final ReentrantLock lock = (ReentrantLock) productLocks.lockOf(PRODUCT_ID);
+
+		TransactionSynchronizationManager.initSynchronization();
+		productLocks.lockUntilCompletion(PRODUCT_ID);
+
+		// 다른 스레드는 commit 전까지 Lock을 획득할 수 없다.
+		assertThat(CompletableFuture.supplyAsync(lock::tryLock).get()).isFalse();
+
+		for(TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+
+		assertThat(lock.isLocked()).isFalse();
+	}
+}
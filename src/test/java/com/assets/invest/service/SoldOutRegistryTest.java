@@ -0,0 +1,51 @@
+package com.assets.invest.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class SoldOutRegistryTest {
+	final int PRODUCT_ID = 1001;
+	final Duration TTL = Duration.ofMinutes(1);
+
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final SoldOutRegistry registry = new SoldOutRegistry(TTL, nanoTime::get);
+
+	@Test
+	public void 매진_등록된_상품만_매진으로_조회된다() {
+		registry.markSoldOut(PRODUCT_ID);
+
+		assertThat(registry.isSoldOut(PRODUCT_ID)).isTrue();
+		assertThat(registry.isSoldOut(PRODUCT_ID + 1)).isFalse();
+	}
+
+	@Test
+	public void 매진_해제하면_매진이_아니다() {
+		registry.markSoldOut(PRODUCT_ID);
+
+		registry.clear(PRODUCT_ID);
+
+		assertThat(registry.isSoldOut(PRODUCT_ID)).isFalse();
+	}
+
+	@Test
+	public void TTL이_지나면_매진_등록이_만료된다() {
+		registry.markSoldOut(PRODUCT_ID);
+
+		nanoTime.addAndGet(TTL.toNanos() - 1);
+		assertThat(registry.isSoldOut(PRODUCT_ID)).isTrue();
+
+		nanoTime.incrementAndGet();
+		assertThat(registry.isSoldOut(PRODUCT_ID)).isFalse();
+	}
+
+	@Test
+	public void 트랜잭션_밖에서는_즉시_등록된다() {
+		registry.markSoldOutAfterCommit(PRODUCT_ID);
+
+		assertThat(registry.isSoldOut(PRODUCT_ID)).isTrue();
+	}
+}